@@ -0,0 +1,143 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import exceptions.EmptyQueueException;
+import implementations.MyBlockingQueue;
+import implementations.MyLockFreeQueue;
+import implementations.MyQueue;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * Contention benchmark: several threads enqueue and dequeue on one shared
+ * queue.
+ *
+ * <p>
+ * {@code SynchronizedMyQueue} is a {@link MyQueue} with every call in a
+ * {@code synchronized} block. Vary the thread count with JMH's {@code -t}
+ * option, e.g. {@code -PjmhArgs="ConcurrentQueueBenchmark -t 8"}. Scores are
+ * throughput summed over all threads.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentQueueBenchmark {
+
+	@Param({ "SynchronizedMyQueue", "MyLockFreeQueue", "MyBlockingQueue" })
+	public String impl;
+
+	private QueueADT<Integer> queue;
+	private final Integer item = 304;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		queue = newQueue(impl);
+		// Keep some length so dequeues rarely find the queue empty
+		for (int i = 0; i < 1000; i++) {
+			queue.enqueue(i);
+		}
+	}
+
+	/** One enqueue followed by one dequeue, so the length stays level. */
+	@Benchmark
+	public Object enqueueDequeue() throws EmptyQueueException {
+		queue.enqueue(item);
+		return queue.dequeue();
+	}
+
+	static QueueADT<Integer> newQueue(String impl) {
+		switch (impl) {
+		case "SynchronizedMyQueue":
+			return new SynchronizedQueue<Integer>(new MyQueue<Integer>());
+		case "MyLockFreeQueue":
+			return new MyLockFreeQueue<Integer>();
+		case "MyBlockingQueue":
+			return new MyBlockingQueue<Integer>(1 << 20);
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+	/**
+	 * Coarse-locked wrapper: every call runs under the wrapper's monitor.
+	 */
+	static final class SynchronizedQueue<E> implements QueueADT<E> {
+		private final QueueADT<E> queue;
+
+		SynchronizedQueue(QueueADT<E> queue) {
+			this.queue = queue;
+		}
+
+		public synchronized void enqueue(E toAdd) {
+			queue.enqueue(toAdd);
+		}
+
+		public synchronized E dequeue() throws EmptyQueueException {
+			return queue.dequeue();
+		}
+
+		public synchronized E peek() throws EmptyQueueException {
+			return queue.peek();
+		}
+
+		public synchronized void dequeueAll() {
+			queue.dequeueAll();
+		}
+
+		public synchronized boolean isEmpty() {
+			return queue.isEmpty();
+		}
+
+		public synchronized boolean contains(E toFind) {
+			return queue.contains(toFind);
+		}
+
+		public synchronized int search(E toFind) {
+			return queue.search(toFind);
+		}
+
+		public synchronized Iterator<E> iterator() {
+			return queue.iterator();
+		}
+
+		public synchronized boolean equals(QueueADT<E> that) {
+			return queue.equals(that);
+		}
+
+		public synchronized Object[] toArray() {
+			return queue.toArray();
+		}
+
+		public synchronized E[] toArray(E[] holder) {
+			return queue.toArray(holder);
+		}
+
+		public synchronized boolean isFull() {
+			return queue.isFull();
+		}
+
+		public synchronized int size() {
+			return queue.size();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import implementations.MyEliminationStack;
+import implementations.MyLockFreeStack;
+import implementations.MyStack;
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * Contention benchmark: several threads push and pop on one shared stack.
+ *
+ * <p>
+ * {@code SynchronizedMyStack} is a {@link MyStack} with every call in a
+ * {@code synchronized} block, the way shared stacks are guarded today. Vary the
+ * thread count with JMH's {@code -t} option, e.g.
+ * {@code -PjmhArgs="ConcurrentStackBenchmark -t 8"}. Scores are throughput
+ * summed over all threads.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentStackBenchmark {
+
+	@Param({ "SynchronizedMyStack", "MyLockFreeStack", "MyEliminationStack" })
+	public String impl;
+
+	private StackADT<Integer> stack;
+	private final Integer item = 304;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		stack = newStack(impl);
+		// Keep some depth so pops rarely find the stack empty
+		for (int i = 0; i < 1000; i++) {
+			stack.push(i);
+		}
+	}
+
+	/** One push followed by one pop, so the depth stays level. */
+	@Benchmark
+	public Object pushPop() {
+		stack.push(item);
+		return stack.pop();
+	}
+
+	static StackADT<Integer> newStack(String impl) {
+		switch (impl) {
+		case "SynchronizedMyStack":
+			return new SynchronizedStack<Integer>(new MyStack<Integer>());
+		case "MyLockFreeStack":
+			return new MyLockFreeStack<Integer>();
+		case "MyEliminationStack":
+			return new MyEliminationStack<Integer>();
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+	/**
+	 * Coarse-locked wrapper: every call runs under the wrapper's monitor.
+	 */
+	static final class SynchronizedStack<E> implements StackADT<E> {
+		private final StackADT<E> stack;
+
+		SynchronizedStack(StackADT<E> stack) {
+			this.stack = stack;
+		}
+
+		public synchronized void push(E toAdd) {
+			stack.push(toAdd);
+		}
+
+		public synchronized E pop() {
+			return stack.pop();
+		}
+
+		public synchronized E peek() {
+			return stack.peek();
+		}
+
+		public synchronized void clear() {
+			stack.clear();
+		}
+
+		public synchronized boolean isEmpty() {
+			return stack.isEmpty();
+		}
+
+		public synchronized Object[] toArray() {
+			return stack.toArray();
+		}
+
+		public synchronized E[] toArray(E[] holder) {
+			return stack.toArray(holder);
+		}
+
+		public synchronized boolean contains(E toFind) {
+			return stack.contains(toFind);
+		}
+
+		public synchronized int search(E toFind) {
+			return stack.search(toFind);
+		}
+
+		public synchronized Iterator<E> iterator() {
+			return stack.iterator();
+		}
+
+		public synchronized boolean equals(StackADT<E> that) {
+			return stack.equals(that);
+		}
+
+		public synchronized int size() {
+			return stack.size();
+		}
+
+		public synchronized boolean stackOverflow() {
+			return stack.stackOverflow();
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import implementations.MyArrayList;
+import implementations.MyCompactDLL;
+import implementations.MyDLL;
+import implementations.MyIndexedSkipList;
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Benchmarks the {@link ListADT} implementations against
+ * {@code java.util.ArrayList} and {@code java.util.LinkedList}.
+ *
+ * <p>
+ * Each trial builds one list of {@code size} elements. Positional operations
+ * use a pseudo-random index sequence that is the same for every
+ * implementation. {@code add} measures building a list from empty, so its score
+ * is per list, not per element.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+
+	/** Number of consecutive indices read by {@link #getSequential}. */
+	static final int WINDOW = 100;
+
+	@Param({ "MyArrayList", "MyDLL", "MyCompactDLL", "MyUnrolledList", "MyIndexedSkipList", "ArrayList", "LinkedList" })
+	public String impl;
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private ListOps list;
+	private Integer[] values;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = i;
+		}
+		list = newList(impl);
+		for (Integer v : values) {
+			list.add(v);
+		}
+	}
+
+	/** Advances a multiplicative-congruential index in {@code [0, size)}. */
+	private int nextIndex() {
+		cursor = cursor * 1103515245 + 12345;
+		return (cursor >>> 1) % size;
+	}
+
+	@Benchmark
+	public Object add() {
+		ListOps fresh = newList(impl);
+		for (Integer v : values) {
+			fresh.add(v);
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public Object get() {
+		return list.get(nextIndex());
+	}
+
+	/**
+	 * Reads a run of {@code WINDOW} consecutive indices from a random start, the
+	 * pattern of an index loop over the list.
+	 */
+	@Benchmark
+	public void getSequential(Blackhole bh) {
+		int start = nextIndex();
+		int window = Math.min(WINDOW, size);
+		for (int k = 0; k < window; k++) {
+			int index = start + k;
+			bh.consume(list.get(index < size ? index : index - size));
+		}
+	}
+
+	/** Removes a random element and inserts it back at the same place. */
+	@Benchmark
+	public Object removeAndInsert() {
+		int index = nextIndex();
+		Integer removed = list.remove(index);
+		list.add(index, removed);
+		return removed;
+	}
+
+	@Benchmark
+	public void iterate(Blackhole bh) {
+		list.iterate(bh);
+	}
+
+	/** Internal iteration: MyArrayList.forEach, or Iterable.forEach. */
+	@Benchmark
+	public void forEach(Blackhole bh) {
+		list.forEach(bh);
+	}
+
+	/** Searches for the last element, the worst case for a linear scan. */
+	@Benchmark
+	public boolean search() {
+		return list.contains(values[size - 1]);
+	}
+
+	@Benchmark
+	public Object[] toArray() {
+		return list.toArray();
+	}
+
+	static ListOps newList(String impl) {
+		switch (impl) {
+		case "MyArrayList":
+			return new AdtOps(new MyArrayList<Integer>());
+		case "MyDLL":
+			return new AdtOps(new MyDLL<Integer>());
+		case "MyCompactDLL":
+			return new AdtOps(new MyCompactDLL<Integer>());
+		case "MyIndexedSkipList":
+			return new AdtOps(new MyIndexedSkipList<Integer>());
+		case "MyUnrolledList":
+			return new AdtOps(new MyUnrolledList<Integer>());
+		case "ArrayList":
+			return new JdkOps(new ArrayList<Integer>());
+		case "LinkedList":
+			return new JdkOps(new LinkedList<Integer>());
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+	/**
+	 * The operations under test, so that every implementation runs the same
+	 * benchmark code. Each trial uses one implementation in its own fork, so the
+	 * calls stay monomorphic.
+	 */
+	interface ListOps {
+		void add(Integer e);
+
+		void add(int index, Integer e);
+
+		Integer get(int index);
+
+		Integer remove(int index);
+
+		boolean contains(Integer e);
+
+		Object[] toArray();
+
+		void iterate(Blackhole bh);
+
+		void forEach(Blackhole bh);
+	}
+
+	static final class AdtOps implements ListOps {
+		private final ListADT<Integer> list;
+
+		AdtOps(ListADT<Integer> list) {
+			this.list = list;
+		}
+
+		public void add(Integer e) {
+			list.add(e);
+		}
+
+		public void add(int index, Integer e) {
+			list.add(index, e);
+		}
+
+		public Integer get(int index) {
+			return list.get(index);
+		}
+
+		public Integer remove(int index) {
+			return list.remove(index);
+		}
+
+		public boolean contains(Integer e) {
+			return list.contains(e);
+		}
+
+		public Object[] toArray() {
+			return list.toArray();
+		}
+
+		public void iterate(Blackhole bh) {
+			Iterator<Integer> it = list.iterator();
+			while (it.hasNext()) {
+				bh.consume(it.next());
+			}
+		}
+
+		public void forEach(Blackhole bh) {
+			if (list instanceof MyArrayList) {
+				((MyArrayList<Integer>) list).forEach(bh::consume);
+			} else {
+				iterate(bh);
+			}
+		}
+	}
+
+	static final class JdkOps implements ListOps {
+		private final List<Integer> list;
+
+		JdkOps(List<Integer> list) {
+			this.list = list;
+		}
+
+		public void add(Integer e) {
+			list.add(e);
+		}
+
+		public void add(int index, Integer e) {
+			list.add(index, e);
+		}
+
+		public Integer get(int index) {
+			return list.get(index);
+		}
+
+		public Integer remove(int index) {
+			return list.remove(index);
+		}
+
+		public boolean contains(Integer e) {
+			return list.contains(e);
+		}
+
+		public Object[] toArray() {
+			return list.toArray();
+		}
+
+		public void iterate(Blackhole bh) {
+			for (Integer e : list) {
+				bh.consume(e);
+			}
+		}
+
+		public void forEach(Blackhole bh) {
+			list.forEach(bh::consume);
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayQueue;
+import implementations.MyQueue;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * Benchmarks the {@link QueueADT} implementations against
+ * {@code java.util.ArrayDeque} and {@code java.util.LinkedList} used as queues.
+ *
+ * <p>
+ * Each trial builds one queue of {@code size} elements; {@code enqueueDequeue}
+ * keeps it at that length. {@code search} looks for the rear element, the worst
+ * case for a front-to-rear scan.
+ * </p>
+ *
+ * <p>
+ * {@code MyQueuePooled} recycles dequeued nodes; compare its allocation rate
+ * with {@code MyQueue} by adding {@code -prof gc}, e.g.
+ * {@code -PjmhArgs="QueueBenchmark.enqueueDequeue -prof gc"}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+	/** Spare nodes kept by {@code MyQueuePooled}. */
+	static final int POOL_CAPACITY = 64;
+
+	@Param({ "MyQueue", "MyQueuePooled", "MyArrayQueue", "ArrayDeque", "LinkedList" })
+	public String impl;
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private QueueOps queue;
+	private Integer rear;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		queue = newQueue(impl);
+		for (int i = 0; i < size; i++) {
+			queue.enqueue(i);
+		}
+		rear = size - 1;
+	}
+
+	@Benchmark
+	public Object enqueueDequeue() throws EmptyQueueException {
+		Integer front = queue.dequeue();
+		queue.enqueue(front);
+		return front;
+	}
+
+	@Benchmark
+	public void iterate(Blackhole bh) {
+		queue.iterate(bh);
+	}
+
+	@Benchmark
+	public boolean search() {
+		return queue.contains(rear);
+	}
+
+	@Benchmark
+	public Object[] toArray() {
+		return queue.toArray();
+	}
+
+	static QueueOps newQueue(String impl) {
+		switch (impl) {
+		case "MyQueue":
+			return new AdtOps(new MyQueue<Integer>());
+		case "MyQueuePooled":
+			return new AdtOps(new MyQueue<Integer>(POOL_CAPACITY));
+		case "MyArrayQueue":
+			return new AdtOps(new MyArrayQueue<Integer>());
+		case "ArrayDeque":
+			return new JdkOps(new ArrayDeque<Integer>());
+		case "LinkedList":
+			return new JdkOps(new LinkedList<Integer>());
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+	/** The operations under test, shared by every implementation. */
+	interface QueueOps {
+		void enqueue(Integer e);
+
+		Integer dequeue() throws EmptyQueueException;
+
+		boolean contains(Integer e);
+
+		Object[] toArray();
+
+		void iterate(Blackhole bh);
+	}
+
+	static final class AdtOps implements QueueOps {
+		private final QueueADT<Integer> queue;
+
+		AdtOps(QueueADT<Integer> queue) {
+			this.queue = queue;
+		}
+
+		public void enqueue(Integer e) {
+			queue.enqueue(e);
+		}
+
+		public Integer dequeue() throws EmptyQueueException {
+			return queue.dequeue();
+		}
+
+		public boolean contains(Integer e) {
+			return queue.contains(e);
+		}
+
+		public Object[] toArray() {
+			return queue.toArray();
+		}
+
+		public void iterate(Blackhole bh) {
+			Iterator<Integer> it = queue.iterator();
+			while (it.hasNext()) {
+				bh.consume(it.next());
+			}
+		}
+	}
+
+	static final class JdkOps implements QueueOps {
+		private final java.util.Queue<Integer> queue;
+
+		JdkOps(java.util.Queue<Integer> queue) {
+			this.queue = queue;
+		}
+
+		public void enqueue(Integer e) {
+			queue.add(e);
+		}
+
+		public Integer dequeue() {
+			return queue.remove();
+		}
+
+		public boolean contains(Integer e) {
+			return queue.contains(e);
+		}
+
+		public Object[] toArray() {
+			return queue.toArray();
+		}
+
+		public void iterate(Blackhole bh) {
+			for (Integer e : queue) {
+				bh.consume(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import exceptions.EmptyQueueException;
+import implementations.MyQueue;
+import implementations.MySpscQueue;
+
+/**
+ * Stage hand-off benchmark: one producer thread offers and one consumer thread
+ * polls on a shared queue of {@code CAPACITY} elements.
+ *
+ * <p>
+ * {@code SynchronizedMyQueue} is a {@link MyQueue} guarded by its monitor and
+ * capped at the same capacity, allocating a node per element;
+ * {@code MySpscQueue} is the lock-free ring. A failed offer or poll (full or
+ * empty queue) still counts as an operation, so compare the
+ * {@code offer} and {@code poll} scores together.
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpscQueueBenchmark {
+
+	static final int CAPACITY = 1024;
+
+	@Param({ "SynchronizedMyQueue", "MySpscQueue" })
+	public String impl;
+
+	private HandOff queue;
+	private final Integer item = 304;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		switch (impl) {
+		case "SynchronizedMyQueue":
+			queue = new LockedHandOff();
+			break;
+		case "MySpscQueue":
+			queue = new RingHandOff();
+			break;
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+	@Benchmark
+	@Group("handOff")
+	@GroupThreads(1)
+	public boolean offer() {
+		return queue.offer(item);
+	}
+
+	@Benchmark
+	@Group("handOff")
+	@GroupThreads(1)
+	public Object poll() {
+		return queue.poll();
+	}
+
+	/** Non-throwing offer and poll, shared by both implementations. */
+	interface HandOff {
+		boolean offer(Integer e);
+
+		Integer poll();
+	}
+
+	static final class RingHandOff implements HandOff {
+		private final MySpscQueue<Integer> queue = new MySpscQueue<Integer>(CAPACITY);
+
+		public boolean offer(Integer e) {
+			return queue.offer(e);
+		}
+
+		public Integer poll() {
+			return queue.poll();
+		}
+	}
+
+	static final class LockedHandOff implements HandOff {
+		private final MyQueue<Integer> queue = new MyQueue<Integer>();
+
+		public synchronized boolean offer(Integer e) {
+			if (queue.size() >= CAPACITY) {
+				return false;
+			}
+			queue.enqueue(e);
+			return true;
+		}
+
+		public synchronized Integer poll() {
+			try {
+				return queue.isEmpty() ? null : queue.dequeue();
+			} catch (EmptyQueueException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,233 @@
+package benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import implementations.IntStack;
+import implementations.MyStack;
+import utilities.IntIterator;
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * Benchmarks the {@link StackADT} implementations against
+ * {@code java.util.ArrayDeque} used as a stack.
+ *
+ * <p>
+ * Each trial builds one stack of {@code size} elements; {@code pushPop} keeps
+ * it at that depth. {@code search} looks for the bottom element, the worst case
+ * for a top-down scan, and {@code searchAbsent} for an element that is not
+ * there, the worst case for any scan. {@code IntStack} is driven through the same boxed
+ * {@code StackOps} calls and unboxes at that boundary; {@code pushPop} pushes
+ * a cached {@code Integer}, so it compares storage rather than boxing.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark {
+
+	@Param({ "MyStack", "MyStackIndexed", "IntStack", "ArrayDeque" })
+	public String impl;
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	private StackOps stack;
+	private Integer bottom;
+	private Integer pushed;
+	private Integer absent;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		stack = newStack(impl);
+		for (int i = 0; i < size; i++) {
+			stack.push(i);
+		}
+		bottom = 0;
+		pushed = -1;
+		absent = -2;
+	}
+
+	@Benchmark
+	public Object pushPop() {
+		stack.push(pushed);
+		return stack.pop();
+	}
+
+	@Benchmark
+	public Object peek() {
+		return stack.peek();
+	}
+
+	@Benchmark
+	public void iterate(Blackhole bh) {
+		stack.iterate(bh);
+	}
+
+	@Benchmark
+	public boolean search() {
+		return stack.contains(bottom);
+	}
+
+	@Benchmark
+	public boolean searchAbsent() {
+		return stack.contains(absent);
+	}
+
+	@Benchmark
+	public Object toArray() {
+		return stack.toArray();
+	}
+
+	static StackOps newStack(String impl) {
+		switch (impl) {
+		case "MyStack":
+			return new AdtOps(new MyStack<Integer>());
+		case "MyStackIndexed":
+			return new AdtOps(new MyStack<Integer>(true));
+		case "IntStack":
+			return new IntOps(new IntStack());
+		case "ArrayDeque":
+			return new DequeOps(new ArrayDeque<Integer>());
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+	/** The operations under test, shared by every implementation. */
+	interface StackOps {
+		void push(Integer e);
+
+		Integer pop();
+
+		Integer peek();
+
+		boolean contains(Integer e);
+
+		Object toArray();
+
+		void iterate(Blackhole bh);
+	}
+
+	static final class AdtOps implements StackOps {
+		private final StackADT<Integer> stack;
+
+		AdtOps(StackADT<Integer> stack) {
+			this.stack = stack;
+		}
+
+		public void push(Integer e) {
+			stack.push(e);
+		}
+
+		public Integer pop() {
+			return stack.pop();
+		}
+
+		public Integer peek() {
+			return stack.peek();
+		}
+
+		public boolean contains(Integer e) {
+			return stack.contains(e);
+		}
+
+		public Object toArray() {
+			return stack.toArray();
+		}
+
+		public void iterate(Blackhole bh) {
+			Iterator<Integer> it = stack.iterator();
+			while (it.hasNext()) {
+				bh.consume(it.next());
+			}
+		}
+	}
+
+	static final class IntOps implements StackOps {
+		private final IntStack stack;
+
+		IntOps(IntStack stack) {
+			this.stack = stack;
+		}
+
+		public void push(Integer e) {
+			stack.push(e);
+		}
+
+		public Integer pop() {
+			return stack.pop();
+		}
+
+		public Integer peek() {
+			return stack.peek();
+		}
+
+		public boolean contains(Integer e) {
+			return stack.contains(e);
+		}
+
+		public Object toArray() {
+			return stack.toArray();
+		}
+
+		public void iterate(Blackhole bh) {
+			IntIterator it = stack.iterator();
+			while (it.hasNext()) {
+				bh.consume(it.next());
+			}
+		}
+	}
+
+	static final class DequeOps implements StackOps {
+		private final ArrayDeque<Integer> stack;
+
+		DequeOps(ArrayDeque<Integer> stack) {
+			this.stack = stack;
+		}
+
+		public void push(Integer e) {
+			stack.push(e);
+		}
+
+		public Integer pop() {
+			return stack.pop();
+		}
+
+		public Integer peek() {
+			return stack.peek();
+		}
+
+		public boolean contains(Integer e) {
+			return stack.contains(e);
+		}
+
+		public Object toArray() {
+			return stack.toArray();
+		}
+
+		public void iterate(Blackhole bh) {
+			for (Integer e : stack) {
+				bh.consume(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import utilities.CharIterator;
+
+/**
+ * {@code CharStack} is a stack of primitive {@code char} values.
+ *
+ * <p>
+ * Offers the operations of the {@link utilities.StackADT} interface on a
+ * {@code char[]}, so values are stored unboxed and push, pop and peek allocate
+ * nothing once the array is large enough. The array grows as needed and is
+ * never shrunk, so a stack reused across calls stops allocating after warm-up.
+ * Since a primitive can never be null, none of the methods throw
+ * NullPointerException for elements.
+ * </p>
+ */
+public class CharStack {
+
+	/** Initial array length used by the no-arg constructor. */
+	private static final int DEFAULT_CAPACITY = 10;
+
+	/** Element storage; the bottom of the stack is at index {@code 0}. */
+	private char[] elements;
+
+	/** Number of elements, which is also the index of the next free slot. */
+	private int top;
+
+	/** Number of pushes, pops and clears, checked by iterators to fail fast. */
+	private int modCount;
+
+	/**
+	 * Constructs an empty stack.
+	 */
+	public CharStack() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty stack with room for {@code initialCapacity} values
+	 * before its array has to grow.
+	 *
+	 * @param initialCapacity the initial array length
+	 * @throws IllegalArgumentException if {@code initialCapacity} is negative
+	 */
+	public CharStack(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must be >= 0");
+		}
+		elements = new char[initialCapacity];
+	}
+
+	/**
+	 * Pushes a value onto the top of this stack.
+	 *
+	 * @param toAdd the value to be pushed
+	 */
+	public void push(char toAdd) {
+		if (top == elements.length) {
+			elements = Arrays.copyOf(elements, elements.length * 2 + 1);
+		}
+		elements[top++] = toAdd;
+		modCount++;
+	}
+
+	/**
+	 * Removes and returns the value at the top of this stack.
+	 *
+	 * @return the value popped off the top of this stack
+	 * @throws EmptyStackException if the stack is empty
+	 */
+	public char pop() throws EmptyStackException {
+		if (top == 0) {
+			throw new EmptyStackException();
+		}
+		modCount++;
+		return elements[--top];
+	}
+
+	/**
+	 * Looks at the value at the top of this stack without removing it.
+	 *
+	 * @return the value at the top of this stack
+	 * @throws EmptyStackException if the stack is empty
+	 */
+	public char peek() throws EmptyStackException {
+		if (top == 0) {
+			throw new EmptyStackException();
+		}
+		return elements[top - 1];
+	}
+
+	/**
+	 * Removes all of the values from this stack. The array is kept for reuse.
+	 */
+	public void clear() {
+		top = 0;
+		modCount++;
+	}
+
+	/**
+	 * Returns {@code true} if this stack contains no values.
+	 *
+	 * @return {@code true} if this stack contains no values; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return top == 0;
+	}
+
+	/**
+	 * Returns the number of values in this stack.
+	 *
+	 * @return the number of values in this stack
+	 */
+	public int size() {
+		return top;
+	}
+
+	/**
+	 * Returns {@code true} if this stack contains the specified value.
+	 *
+	 * @param toFind the value whose presence in this stack is to be tested
+	 * @return {@code true} if this stack contains the value; {@code false}
+	 *         otherwise
+	 */
+	public boolean contains(char toFind) {
+		return search(toFind) != -1;
+	}
+
+	/**
+	 * Returns the 1-based position of a value in this stack. The top-most value
+	 * has position {@code 1}.
+	 *
+	 * @param toFind the desired value
+	 * @return the 1-based position from the top, or {@code -1} if not found
+	 */
+	public int search(char toFind) {
+		for (int i = top - 1; i >= 0; i--) {
+			if (elements[i] == toFind) {
+				return top - i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns a new array containing the values in this stack from top to
+	 * bottom.
+	 *
+	 * @return an array containing all values from top to bottom
+	 */
+	public char[] toArray() {
+		return toArray(new char[top]);
+	}
+
+	/**
+	 * Copies the values in this stack, from top to bottom, into {@code holder} if
+	 * it is big enough, and otherwise into a new array of the stack's size. Unlike
+	 * the object version there is no marker after the last value.
+	 *
+	 * @param holder the array into which the values are to be stored, if it is
+	 *               big enough
+	 * @return an array containing the values of the stack from top to bottom
+	 * @throws NullPointerException if {@code holder} is {@code null}
+	 */
+	public char[] toArray(char[] holder) throws NullPointerException {
+		if (holder == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+		if (holder.length < top) {
+			holder = new char[top];
+		}
+		for (int i = 0; i < top; i++) {
+			holder[i] = elements[top - 1 - i];
+		}
+		return holder;
+	}
+
+	/**
+	 * Returns an iterator over the values in this stack from top to bottom.
+	 *
+	 * @return an iterator over the values in this stack from top to bottom
+	 */
+	public CharIterator iterator() {
+		return new CharStackIterator();
+	}
+
+	/**
+	 * Iterator that reads the backing array in place from top to bottom; nothing
+	 * is copied or boxed. It fails fast if the stack is pushed, popped or cleared
+	 * after the iterator was created.
+	 */
+	private class CharStackIterator implements CharIterator {
+
+		/** Current index in the underlying array. Starts at the top. */
+		private int currentIndex = top - 1;
+
+		/** The stack's modification count when this iterator was created. */
+		private final int expectedModCount = modCount;
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return currentIndex >= 0;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public char next() throws NoSuchElementException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements");
+			}
+			return elements[currentIndex--];
+		}
+	}
+
+	/**
+	 * Compares this stack with another stack for equality. Two stacks are equal
+	 * if they hold the same values in the same order.
+	 *
+	 * @param that the stack to compare with
+	 * @return {@code true} if the stacks are equal; {@code false} otherwise
+	 */
+	public boolean equals(CharStack that) {
+		if (that == null || top != that.top) {
+			return false;
+		}
+		for (int i = 0; i < top; i++) {
+			if (elements[i] != that.elements[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
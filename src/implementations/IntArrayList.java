@@ -0,0 +1,219 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import utilities.IntIterator;
+
+/**
+ * Array-backed list of primitive <code>int</code> values.
+ *
+ * <p>
+ * Offers the operations of the ListADT interface on a <code>int[]</code>, so
+ * elements are stored unboxed: 4 bytes each instead of a reference plus a
+ * boxed <code>Integer</code>. Since a primitive can never be null, none of the
+ * methods throw NullPointerException for elements. The value-based remove is
+ * named {@link #removeValue(int)} because <code>remove(int)</code> already
+ * removes by index.
+ * </p>
+ */
+public class IntArrayList
+{
+	// constant
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // internal array to hold elements
+    private int[] elements;
+    // current number of elements
+    private int size;
+    // number of structural changes (add/remove/clear), used to detect
+    // modification during iteration
+    private int modCount;
+
+    // default constructor
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // constructor with initial capacity
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+        	// throw exception for negative capacity
+            throw new IllegalArgumentException("initialCapacity must be >= 0");
+        }
+        elements = new int[Math.max(initialCapacity, DEFAULT_CAPACITY)];
+        size = 0;
+    }
+
+    // ensure the internal array has at least the specified capacity
+    private void ensureCapacity(int minCapacity) {
+        if (elements.length >= minCapacity) return;
+        // double the size and add one, or set to minCapacity if larger
+        int newCapacity = elements.length * 2 + 1;
+        if (newCapacity < minCapacity) newCapacity = minCapacity;
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    // check if index is in range for add operation
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    // check if index is in range for get, set, remove operations
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    //size of the list
+    public int size() {
+        return size;
+    }
+
+    //clear the list; no references to release, so only the size is reset
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    //add element at index
+    public boolean add(int index, int toAdd) throws IndexOutOfBoundsException {
+        rangeCheckForAdd(index); // index can be == size for add at end
+        ensureCapacity(size + 1);
+        // shift right
+        if (index < size) {
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+        }
+        elements[index] = toAdd;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    //add element at end
+    public boolean add(int toAdd) {
+        ensureCapacity(size + 1);
+        elements[size++] = toAdd;
+        modCount++;
+        return true;
+    }
+
+    //add all elements from another list with a single array copy
+    public boolean addAll(IntArrayList toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("toAdd is null");
+        int count = toAdd.size;
+        ensureCapacity(size + count);
+        System.arraycopy(toAdd.elements, 0, elements, size, count);
+        size += count;
+        modCount++;
+        return count > 0;
+    }
+
+    //get element at index
+    public int get(int index) throws IndexOutOfBoundsException {
+        rangeCheck(index);
+        return elements[index];
+    }
+
+    //remove element at index
+    public int remove(int index) throws IndexOutOfBoundsException {
+        rangeCheck(index);
+        int removed = elements[index];
+        int numMoved = size - index - 1;
+        // shift left
+        if (numMoved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, numMoved);
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    //remove first occurrence of value; returns true if it was found
+    public boolean removeValue(int toRemove) {
+        int index = indexOf(toRemove);
+        if (index < 0) return false;
+        remove(index);
+        return true;
+    }
+
+    //set element at index
+    public int set(int index, int toChange) throws IndexOutOfBoundsException {
+        rangeCheck(index);
+        int old = elements[index];
+        elements[index] = toChange;
+        return old;
+    }
+
+    // check if list is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // index of the first occurrence of the value, or -1
+    public int indexOf(int toFind) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == toFind) return i;
+        }
+        return -1;
+    }
+
+    // check if list contains the specified value
+    public boolean contains(int toFind) {
+        return indexOf(toFind) >= 0;
+    }
+
+    // copy into toHold if it is big enough, otherwise into a new array;
+    // unlike the object version there is no null marker after the last element
+    public int[] toArray(int[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold is null");
+        if (toHold.length < size) {
+            return Arrays.copyOf(elements, size);
+        }
+        System.arraycopy(elements, 0, toHold, 0, size);
+        return toHold;
+    }
+
+    // convert list to a new array
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // return an iterator over the values in the list
+    public IntIterator iterator() {
+        return new IntArrayIterator();
+    }
+
+    /**
+     * Reads the backing array in place; nothing is copied or boxed. Fails fast
+     * with ConcurrentModificationException if the list is structurally modified
+     * after the iterator was created.
+     */
+    private class IntArrayIterator implements IntIterator {
+
+        // modCount the list had when the iterator was created
+        private final int expectedModCount = modCount;
+        // current position in the iteration
+        private int cursor;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public int next() throws NoSuchElementException {
+            // fail fast if the list changed under the iterator
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException("no more elements");
+            }
+            return elements[cursor++];
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package implementations;
 
 import java.lang.reflect.Array;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 import java.util.Arrays;
+import java.util.function.Consumer;
 import utilities.ListADT;
 import utilities.Iterator;
 
 /**
  * Simple array-backed implementation of the ListADT interface.
  *
+ * <p>
+ * The iterator is fail-fast: it reads the internal array in place and throws
+ * ConcurrentModificationException if the list is structurally modified (add,
+ * remove, clear) after it was created.
+ * </p>
+ *
  * @param <E> element type
  */
 public class MyArrayList<E> implements ListADT<E>
@@ -20,6 +28,9 @@ public class MyArrayList<E> implements ListADT<E>
     private Object[] elements;
     // current number of elements
     private int size;
+    // number of structural changes (add/remove/clear), used to detect
+    // modification during forEach and iteration
+    private int modCount;
 
     // default constructor
     public MyArrayList() {
@@ -81,6 +92,7 @@ public class MyArrayList<E> implements ListADT<E>
     public void clear() {
         for (int i = 0; i < size; i++) elements[i] = null;
         size = 0;
+        modCount++;
     }
 
     //add element at index
@@ -97,6 +109,7 @@ public class MyArrayList<E> implements ListADT<E>
         // insert new element
         elements[index] = toAdd;
         size++;
+        modCount++;
         return true;
     }
 
@@ -107,6 +120,7 @@ public class MyArrayList<E> implements ListADT<E>
         if (toAdd == null) throw new NullPointerException("null elements not supported");
         ensureCapacity(size + 1);
         elements[size++] = toAdd;
+        modCount++;
         return true;
     }
 
@@ -115,6 +129,15 @@ public class MyArrayList<E> implements ListADT<E>
     public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
     	// check for null
         if (toAdd == null) throw new NullPointerException("toAdd is null");
+        // adding a list to itself: copy first, since the iterator is fail-fast
+        if (toAdd == this) {
+            int count = size;
+            ensureCapacity(size + count);
+            System.arraycopy(elements, 0, elements, size, count);
+            size += count;
+            modCount++;
+            return count > 0;
+        }
         // iterate and add each element
         Iterator<? extends E> it = toAdd.iterator();
         // track if any elements were added
@@ -149,6 +172,7 @@ public class MyArrayList<E> implements ListADT<E>
         }
         // clear last element
         elements[--size] = null;
+        modCount++;
         return removed;
     }
 
@@ -239,44 +263,71 @@ public class MyArrayList<E> implements ListADT<E>
         return new ArrayIterator();
     }
 
+    /**
+     * Performs the action for each element in order, reading the internal array
+     * in place. Unlike {@link #iterator()} no iterator object is created, so a
+     * pass costs no allocation. The list must not be structurally modified
+     * (add, remove, clear) by the action.
+     *
+     * @param action the action to perform on each element
+     * @throws NullPointerException            if action is null
+     * @throws ConcurrentModificationException if the list is structurally
+     *                                         modified during the pass
+     */
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) throw new NullPointerException("action is null");
+        // read fields once; the check below catches changes made by the action
+        final int expectedModCount = modCount;
+        final Object[] es = elements;
+        final int n = size;
+        for (int i = 0; i < n && modCount == expectedModCount; i++) {
+            action.accept(elementAt(es, i));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // unchecked cast of an element of a local copy of the internal array
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(Object[] es, int index) {
+        return (E) es[index];
+    }
+
 
     /**
-     * The iterator makes a copy (snapshot) of the current elements array so
-     * that changes to the list after the iterator is created do not affect the
-     * iteration. The copy is of the internal structure (object references).
+     * The iterator reads the internal array in place; nothing is copied. It
+     * records modCount when it is created and throws
+     * ConcurrentModificationException from next() if the list has been
+     * structurally modified since.
      */
     private class ArrayIterator implements Iterator<E> {
-    	
-    	// snapshot of elements at iterator creation
-        private final Object[] snapshot;
+
+        // modCount the list had when the iterator was created
+        private final int expectedModCount = modCount;
         // current position in the iteration
         private int cursor;
 
-        // constructor creates snapshot
-        ArrayIterator() {
-        	// make a copy of the current elements
-            snapshot = Arrays.copyOf(elements, size);
-            // start cursor at beginning
-            cursor = 0;
-        }
-
         // check if there are more elements
         @Override
         public boolean hasNext() {
-        	// return true if cursor is less than snapshot length
-            return cursor < snapshot.length;
+        	// return true if cursor is less than the list size
+            return cursor < size;
         }
 
         // return the next element
         @Override
-        @SuppressWarnings("unchecked")
         public E next() throws NoSuchElementException {
+        	// fail fast if the list changed under the iterator
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         	// if no more elements, throw exception
             if (!hasNext()) {
                 throw new NoSuchElementException("no more elements");
             }
             // return current element and advance cursor
-            return (E) snapshot[cursor++];
+            return elementAt(cursor++);
         }
     }
-}
\ No newline at end of file
+}
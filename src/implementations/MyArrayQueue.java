@@ -0,0 +1,453 @@
+package implementations;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.QueueADT;
+
+/**
+ * {@code MyArrayQueue} is a circular-array implementation of the
+ * {@link QueueADT} interface.
+ *
+ * <p>
+ * Elements live in an {@code Object[]} whose length is always a power of two,
+ * between a head index (the front of the queue) and a tail index (the next free
+ * slot); both wrap around with a bit mask. Enqueue and dequeue therefore
+ * allocate nothing once the array is large enough, unlike {@link MyQueue},
+ * which allocates a node per element.
+ * </p>
+ *
+ * <p>
+ * An unbounded queue doubles its array when it fills up. A bounded queue has a
+ * fixed capacity: {@link #isFull()} returns {@code true} once it holds that many
+ * elements, and further enqueues are rejected.
+ * </p>
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MyArrayQueue<E> implements QueueADT<E> {
+
+	/** Initial array length of an unbounded queue. */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** Largest power of two that is a legal array length. */
+	private static final int MAX_ARRAY_LENGTH = 1 << 30;
+
+	/** Circular element storage; its length is a power of two. */
+	private Object[] elements;
+
+	/** {@code elements.length - 1}, used to wrap indices. */
+	private int mask;
+
+	/** Index of the front element. */
+	private int head;
+
+	/** Index of the slot the next enqueued element goes into. */
+	private int tail;
+
+	/** Number of elements in the queue. */
+	private int size;
+
+	/** Number of structural changes, checked by iterators to fail fast. */
+	private int modCount;
+
+	/** Maximum number of elements, or {@code -1} if the queue is unbounded. */
+	private final int capacity;
+
+	/**
+	 * Constructs an empty unbounded queue.
+	 */
+	public MyArrayQueue() {
+		elements = new Object[DEFAULT_CAPACITY];
+		mask = DEFAULT_CAPACITY - 1;
+		capacity = -1;
+	}
+
+	/**
+	 * Constructs an empty bounded queue that holds at most {@code capacity}
+	 * elements.
+	 *
+	 * @param capacity the maximum number of elements
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 or
+	 *                                  greater than 2<sup>30</sup>
+	 */
+	public MyArrayQueue(int capacity) {
+		if (capacity < 1 || capacity > MAX_ARRAY_LENGTH) {
+			throw new IllegalArgumentException("capacity must be between 1 and " + MAX_ARRAY_LENGTH);
+		}
+		int length = Integer.highestOneBit(capacity);
+		if (length < capacity) {
+			length <<= 1;
+		}
+		elements = new Object[length];
+		mask = length - 1;
+		this.capacity = capacity;
+	}
+
+	// ========== Core Queue Operations ==========
+
+	/**
+	 * Adds an item to the rear of this queue, growing the array if an unbounded
+	 * queue is out of room.
+	 *
+	 * @param toAdd the item to be added to the queue
+	 * @throws NullPointerException  if {@code toAdd} is {@code null}
+	 * @throws IllegalStateException if this queue is bounded and full
+	 */
+	@Override
+	public void enqueue(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null element");
+		}
+		if (size == elements.length || size == capacity) {
+			if (capacity >= 0) {
+				throw new IllegalStateException("Queue is full");
+			}
+			grow();
+		}
+		elements[tail] = toAdd;
+		tail = (tail + 1) & mask;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Removes and returns the item at the front of the queue.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws EmptyQueueException if the queue is empty
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E dequeue() throws EmptyQueueException {
+		if (size == 0) {
+			throw new EmptyQueueException("Queue is empty");
+		}
+		E element = (E) elements[head];
+		elements[head] = null;
+		head = (head + 1) & mask;
+		size--;
+		modCount++;
+		return element;
+	}
+
+	/**
+	 * Returns the item at the front of the queue without removing it.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws EmptyQueueException if the queue is empty
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E peek() throws EmptyQueueException {
+		if (size == 0) {
+			throw new EmptyQueueException("Queue is empty");
+		}
+		return (E) elements[head];
+	}
+
+	/**
+	 * Removes all items from this queue. The array keeps its current length.
+	 */
+	@Override
+	public void dequeueAll() {
+		for (int i = 0; i < size; i++) {
+			elements[(head + i) & mask] = null;
+		}
+		head = 0;
+		tail = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Doubles the array, copying the elements so that the front is at index 0.
+	 */
+	private void grow() {
+		if (elements.length == MAX_ARRAY_LENGTH) {
+			throw new IllegalStateException("Queue cannot grow beyond " + MAX_ARRAY_LENGTH + " elements");
+		}
+		Object[] larger = new Object[elements.length << 1];
+		int firstPart = elements.length - head;
+		System.arraycopy(elements, head, larger, 0, firstPart);
+		System.arraycopy(elements, 0, larger, firstPart, head);
+		elements = larger;
+		mask = larger.length - 1;
+		head = 0;
+		tail = size;
+	}
+
+	// ========== Bulk Operations ==========
+
+	/**
+	 * Removes up to {@code max} items from the front of this queue and appends
+	 * them, in queue order, to {@code sink}. The head moves once for the whole
+	 * batch. If {@code sink} throws, the items it already accepted are removed
+	 * and the rest stay in this queue.
+	 *
+	 * @param sink the list to which the items are appended
+	 * @param max  the maximum number of items to move
+	 * @return the number of items moved
+	 * @throws NullPointerException     if {@code sink} is {@code null}
+	 * @throws IllegalArgumentException if {@code max} is negative
+	 */
+	@SuppressWarnings("unchecked")
+	public int drainTo(ListADT<? super E> sink, int max) throws NullPointerException {
+		if (sink == null) {
+			throw new NullPointerException("Cannot drain to null list");
+		}
+		if (max < 0) {
+			throw new IllegalArgumentException("max must be >= 0");
+		}
+		int count = Math.min(max, size);
+		int moved = 0;
+		try {
+			for (; moved < count; moved++) {
+				int slot = (head + moved) & mask;
+				sink.add((E) elements[slot]);
+				elements[slot] = null;
+			}
+		} finally {
+			// Commit only the items the sink accepted, even if it threw
+			head = (head + moved) & mask;
+			size -= moved;
+			modCount++;
+		}
+		return count;
+	}
+
+	/**
+	 * Adds every item of {@code toAdd} to the rear of this queue, in list order.
+	 * An unbounded queue makes room for the whole batch before copying it in; a
+	 * bounded queue rejects the batch without adding anything if it does not
+	 * fit.
+	 *
+	 * @param toAdd the list whose items are to be enqueued
+	 * @throws NullPointerException  if {@code toAdd} or any of its items is
+	 *                               {@code null}; nothing is added
+	 * @throws IllegalStateException if this queue is bounded and the items do not
+	 *                               fit
+	 */
+	public void enqueueAll(ListADT<? extends E> toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null list");
+		}
+		int needed = size + toAdd.size();
+		if (capacity >= 0 && needed > capacity) {
+			throw new IllegalStateException("Queue is full");
+		}
+		while (needed > elements.length) {
+			grow();
+		}
+		Iterator<? extends E> it = toAdd.iterator();
+		int slot = tail;
+		while (it.hasNext()) {
+			E element = it.next();
+			if (element == null) {
+				// Undo the writes so the slots past the tail stay clear
+				for (int j = tail; j != slot; j = (j + 1) & mask) {
+					elements[j] = null;
+				}
+				throw new NullPointerException("Cannot enqueue null element");
+			}
+			elements[slot] = element;
+			slot = (slot + 1) & mask;
+		}
+		tail = slot;
+		size = needed;
+		modCount++;
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * Returns {@code true} if this queue contains no elements.
+	 *
+	 * @return {@code true} if this queue is empty; {@code false} otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of elements in this queue.
+	 *
+	 * @return the current size of the queue
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns {@code true} if this queue is bounded and holds as many elements as
+	 * its capacity. An unbounded queue is never full.
+	 *
+	 * @return {@code true} if the queue is at capacity
+	 */
+	@Override
+	public boolean isFull() {
+		return size == capacity;
+	}
+
+	// ========== Query Methods ==========
+
+	/**
+	 * Returns {@code true} if this queue contains the specified element.
+	 *
+	 * @param toFind the element whose presence in this queue is to be tested
+	 * @return {@code true} if this queue contains the specified element;
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if {@code toFind} is {@code null}
+	 */
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+		return search(toFind) != -1;
+	}
+
+	/**
+	 * Returns the 1-based position of the specified object in this queue, starting
+	 * from the front.
+	 *
+	 * @param toFind the desired object
+	 * @return the 1-based position from the front, or {@code -1} if not found
+	 */
+	@Override
+	public int search(E toFind) {
+		if (toFind == null) {
+			return -1;
+		}
+		for (int i = 0; i < size; i++) {
+			if (toFind.equals(elements[(head + i) & mask])) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	// ========== Array Conversion ==========
+
+	/**
+	 * Returns an array containing all of the elements in this queue from front to
+	 * rear.
+	 *
+	 * @return an array containing all elements from front to rear
+	 */
+	@Override
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		copyTo(result);
+		return result;
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this queue from front to
+	 * rear; the runtime type of the returned array is that of the specified array.
+	 *
+	 * @param holder the array into which the elements of the queue are to be
+	 *               stored, if it is big enough; otherwise, a new array of the same
+	 *               runtime type is allocated for this purpose
+	 * @return an array containing the elements of this queue from front to rear
+	 * @throws NullPointerException if {@code holder} is {@code null}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+		if (holder == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+		if (holder.length < size) {
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+		}
+		copyTo(holder);
+		if (holder.length > size) {
+			holder[size] = null;
+		}
+		return holder;
+	}
+
+	/**
+	 * Copies the elements, front first, to the start of {@code dest} using at most
+	 * two array copies.
+	 */
+	private void copyTo(Object[] dest) {
+		int firstPart = Math.min(size, elements.length - head);
+		System.arraycopy(elements, head, dest, 0, firstPart);
+		System.arraycopy(elements, 0, dest, firstPart, size - firstPart);
+	}
+
+	// ========== Iterator ==========
+
+	/**
+	 * Returns an iterator over the elements in this queue from front to rear.
+	 *
+	 * @return an iterator from front to rear
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new ArrayQueueIterator();
+	}
+
+	/**
+	 * Iterator that reads the circular array in place, front to rear. It fails
+	 * fast if the queue is structurally modified after the iterator was created.
+	 */
+	private class ArrayQueueIterator implements Iterator<E> {
+
+		/** The queue's modification count when this iterator was created. */
+		private final int expectedModCount = modCount;
+
+		/** Number of elements already returned. */
+		private int returned;
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return returned < size;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements in the queue");
+			}
+			return (E) elements[(head + returned++) & mask];
+		}
+	}
+
+	// ========== Comparison ==========
+
+	/**
+	 * Compares this queue with another queue for equality. Two queues are
+	 * considered equal if they have the same size and contain equal elements in the
+	 * same order from front to rear.
+	 *
+	 * @param that the queue to compare with
+	 * @return {@code true} if the queues are equal; {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(QueueADT<E> that) {
+		if (that == null || this.size() != that.size()) {
+			return false;
+		}
+		Iterator<E> thatIt = that.iterator();
+		for (int i = 0; i < size; i++) {
+			if (!elements[(head + i) & mask].equals(thatIt.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
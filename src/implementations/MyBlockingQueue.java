@@ -0,0 +1,692 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.QueueADT;
+
+/**
+ * {@code MyBlockingQueue} is a thread-safe, bounded implementation of the
+ * {@link QueueADT} interface that can block producers and consumers.
+ *
+ * <p>
+ * Besides the {@link QueueADT} methods, which never wait, it offers
+ * {@link #put(Object)} and {@link #take()}, which wait for room or for an
+ * element, and {@link #offer(Object, long, TimeUnit)} and
+ * {@link #poll(long, TimeUnit)}, which wait up to a timeout. A producer that
+ * gets ahead of its consumers is therefore held back once {@link #isFull()}
+ * instead of letting the queue grow without limit.
+ * </p>
+ *
+ * <p>
+ * The queue is a linked chain starting with a dummy node. Producers only touch
+ * the tail under a put lock and consumers only touch the head under a take
+ * lock, so one producer and one consumer can proceed at the same time; the
+ * element count is an {@link AtomicInteger} shared by both sides. Methods that
+ * look at the whole queue hold both locks.
+ * </p>
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MyBlockingQueue<E> implements QueueADT<E> {
+
+	/**
+	 * A singly-linked queue node.
+	 */
+	private static final class Node<E> {
+		E data;
+		Node<E> next;
+
+		Node(E data) {
+			this.data = data;
+		}
+	}
+
+	/** Maximum number of elements. */
+	private final int capacity;
+
+	/** Number of elements in the queue. */
+	private final AtomicInteger count = new AtomicInteger();
+
+	/** The dummy node before the front element; guarded by {@link #takeLock}. */
+	private Node<E> head;
+
+	/** The last node; guarded by {@link #putLock}. */
+	private Node<E> last;
+
+	/** Lock held by dequeue, take and poll. */
+	private final ReentrantLock takeLock = new ReentrantLock();
+
+	/** Signalled when an element is added. */
+	private final Condition notEmpty = takeLock.newCondition();
+
+	/** Lock held by enqueue, put and offer. */
+	private final ReentrantLock putLock = new ReentrantLock();
+
+	/** Signalled when an element is removed. */
+	private final Condition notFull = putLock.newCondition();
+
+	/**
+	 * Constructs an empty queue that holds at most {@code capacity} elements.
+	 *
+	 * @param capacity the maximum number of elements
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1
+	 */
+	public MyBlockingQueue(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be >= 1");
+		}
+		this.capacity = capacity;
+		head = last = new Node<>(null);
+	}
+
+	// ========== Blocking Operations ==========
+
+	/**
+	 * Adds an item to the rear of this queue, waiting for room if it is full.
+	 *
+	 * @param toAdd the item to be added to the queue
+	 * @throws NullPointerException if {@code toAdd} is {@code null}
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void put(E toAdd) throws InterruptedException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null element");
+		}
+		int before;
+		putLock.lockInterruptibly();
+		try {
+			while (count.get() == capacity) {
+				notFull.await();
+			}
+			before = link(toAdd);
+		} finally {
+			putLock.unlock();
+		}
+		if (before == 0) {
+			signalNotEmpty();
+		}
+	}
+
+	/**
+	 * Adds an item to the rear of this queue, waiting up to the given time for
+	 * room if it is full.
+	 *
+	 * @param toAdd   the item to be added to the queue
+	 * @param timeout how long to wait, in units of {@code unit}
+	 * @param unit    the unit of {@code timeout}
+	 * @return {@code true} if the item was added, {@code false} if the time ran
+	 *         out first
+	 * @throws NullPointerException if {@code toAdd} or {@code unit} is
+	 *                              {@code null}
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean offer(E toAdd, long timeout, TimeUnit unit) throws InterruptedException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null element");
+		}
+		long nanos = unit.toNanos(timeout);
+		int before;
+		putLock.lockInterruptibly();
+		try {
+			while (count.get() == capacity) {
+				if (nanos <= 0) {
+					return false;
+				}
+				nanos = notFull.awaitNanos(nanos);
+			}
+			before = link(toAdd);
+		} finally {
+			putLock.unlock();
+		}
+		if (before == 0) {
+			signalNotEmpty();
+		}
+		return true;
+	}
+
+	/**
+	 * Removes and returns the item at the front of this queue, waiting for one if
+	 * it is empty.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public E take() throws InterruptedException {
+		E element;
+		int before;
+		takeLock.lockInterruptibly();
+		try {
+			while (count.get() == 0) {
+				notEmpty.await();
+			}
+			element = unlinkFirst();
+			before = count.getAndDecrement();
+			if (before > 1) {
+				notEmpty.signal();
+			}
+		} finally {
+			takeLock.unlock();
+		}
+		if (before == capacity) {
+			signalNotFull();
+		}
+		return element;
+	}
+
+	/**
+	 * Removes and returns the item at the front of this queue, waiting up to the
+	 * given time for one if it is empty.
+	 *
+	 * @param timeout how long to wait, in units of {@code unit}
+	 * @param unit    the unit of {@code timeout}
+	 * @return the item at the front of the queue, or {@code null} if the time ran
+	 *         out first
+	 * @throws NullPointerException if {@code unit} is {@code null}
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		E element;
+		int before;
+		takeLock.lockInterruptibly();
+		try {
+			while (count.get() == 0) {
+				if (nanos <= 0) {
+					return null;
+				}
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			element = unlinkFirst();
+			before = count.getAndDecrement();
+			if (before > 1) {
+				notEmpty.signal();
+			}
+		} finally {
+			takeLock.unlock();
+		}
+		if (before == capacity) {
+			signalNotFull();
+		}
+		return element;
+	}
+
+	// ========== Core Queue Operations ==========
+
+	/**
+	 * Adds an item to the rear of this queue without waiting.
+	 *
+	 * @param toAdd the item to be added to the queue
+	 * @throws NullPointerException  if {@code toAdd} is {@code null}
+	 * @throws IllegalStateException if the queue is full
+	 */
+	@Override
+	public void enqueue(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null element");
+		}
+		int before;
+		putLock.lock();
+		try {
+			if (count.get() == capacity) {
+				throw new IllegalStateException("Queue is full");
+			}
+			before = link(toAdd);
+		} finally {
+			putLock.unlock();
+		}
+		if (before == 0) {
+			signalNotEmpty();
+		}
+	}
+
+	/**
+	 * Removes and returns the item at the front of the queue without waiting.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws EmptyQueueException if the queue is empty
+	 */
+	@Override
+	public E dequeue() throws EmptyQueueException {
+		E element;
+		int before;
+		takeLock.lock();
+		try {
+			if (count.get() == 0) {
+				throw new EmptyQueueException("Queue is empty");
+			}
+			element = unlinkFirst();
+			before = count.getAndDecrement();
+			if (before > 1) {
+				notEmpty.signal();
+			}
+		} finally {
+			takeLock.unlock();
+		}
+		if (before == capacity) {
+			signalNotFull();
+		}
+		return element;
+	}
+
+	/**
+	 * Returns the item at the front of the queue without removing it.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws EmptyQueueException if the queue is empty
+	 */
+	@Override
+	public E peek() throws EmptyQueueException {
+		takeLock.lock();
+		try {
+			if (count.get() == 0) {
+				throw new EmptyQueueException("Queue is empty");
+			}
+			return head.next.data;
+		} finally {
+			takeLock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all items from this queue and wakes any waiting producers.
+	 */
+	@Override
+	public void dequeueAll() {
+		fullyLock();
+		try {
+			for (Node<E> current = head.next; current != null; current = current.next) {
+				current.data = null;
+			}
+			head.next = null;
+			last = head;
+			if (count.getAndSet(0) == capacity) {
+				notFull.signalAll();
+			}
+		} finally {
+			fullyUnlock();
+		}
+	}
+
+	// ========== Bulk Operations ==========
+
+	/**
+	 * Removes up to {@code max} items from the front of this queue without
+	 * waiting and appends them, in queue order, to {@code sink}. The take lock is
+	 * acquired once for the whole batch.
+	 *
+	 * @param sink the list to which the items are appended
+	 * @param max  the maximum number of items to move
+	 * @return the number of items moved
+	 * @throws NullPointerException     if {@code sink} is {@code null}
+	 * @throws IllegalArgumentException if {@code max} is negative
+	 */
+	public int drainTo(ListADT<? super E> sink, int max) throws NullPointerException {
+		if (sink == null) {
+			throw new NullPointerException("Cannot drain to null list");
+		}
+		if (max < 0) {
+			throw new IllegalArgumentException("max must be >= 0");
+		}
+		int moved = 0;
+		boolean wasFull = false;
+		takeLock.lock();
+		try {
+			int n = Math.min(max, count.get());
+			Node<E> dummy = head;
+			try {
+				while (moved < n) {
+					Node<E> first = dummy.next;
+					sink.add(first.data);
+					first.data = null;
+					dummy.next = null;
+					dummy = first;
+					moved++;
+				}
+			} finally {
+				// Keep whatever reached the sink even if a later add failed
+				if (moved > 0) {
+					head = dummy;
+					wasFull = count.getAndAdd(-moved) == capacity;
+				}
+			}
+		} finally {
+			takeLock.unlock();
+		}
+		if (wasFull) {
+			signalNotFull();
+		}
+		return moved;
+	}
+
+	/**
+	 * Adds every item of {@code toAdd} to the rear of this queue without waiting,
+	 * in list order. The items are chained privately first and then linked under
+	 * one acquisition of the put lock; if any item is {@code null} or the items do
+	 * not all fit, nothing is added.
+	 *
+	 * @param toAdd the list whose items are to be enqueued
+	 * @throws NullPointerException  if {@code toAdd} or any of its items is
+	 *                               {@code null}
+	 * @throws IllegalStateException if the items do not fit
+	 */
+	public void enqueueAll(ListADT<? extends E> toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null list");
+		}
+		Iterator<? extends E> it = toAdd.iterator();
+		if (!it.hasNext()) {
+			return;
+		}
+		Node<E> first = null;
+		Node<E> end = null;
+		int n = 0;
+		while (it.hasNext()) {
+			E element = it.next();
+			if (element == null) {
+				throw new NullPointerException("Cannot enqueue null element");
+			}
+			Node<E> node = new Node<>(element);
+			if (first == null) {
+				first = node;
+			} else {
+				end.next = node;
+			}
+			end = node;
+			n++;
+		}
+		int before;
+		putLock.lock();
+		try {
+			if (count.get() + n > capacity) {
+				throw new IllegalStateException("Queue is full");
+			}
+			last.next = first;
+			last = end;
+			before = count.getAndAdd(n);
+			if (before + n < capacity) {
+				notFull.signal();
+			}
+		} finally {
+			putLock.unlock();
+		}
+		if (before == 0) {
+			signalNotEmpty();
+		}
+	}
+
+	/**
+	 * Appends a node for {@code toAdd}. Must hold {@link #putLock}; wakes another
+	 * producer if room remains.
+	 *
+	 * @return the count before the element was added
+	 */
+	private int link(E toAdd) {
+		Node<E> node = new Node<>(toAdd);
+		last.next = node;
+		last = node;
+		int before = count.getAndIncrement();
+		if (before + 1 < capacity) {
+			notFull.signal();
+		}
+		return before;
+	}
+
+	/**
+	 * Unlinks and returns the front element. Must hold {@link #takeLock} and the
+	 * queue must not be empty. The first node becomes the new dummy.
+	 */
+	private E unlinkFirst() {
+		Node<E> first = head.next;
+		head.next = null;
+		head = first;
+		E element = first.data;
+		first.data = null;
+		return element;
+	}
+
+	/** Wakes a waiting consumer; called by producers without the take lock. */
+	private void signalNotEmpty() {
+		takeLock.lock();
+		try {
+			notEmpty.signal();
+		} finally {
+			takeLock.unlock();
+		}
+	}
+
+	/** Wakes a waiting producer; called by consumers without the put lock. */
+	private void signalNotFull() {
+		putLock.lock();
+		try {
+			notFull.signal();
+		} finally {
+			putLock.unlock();
+		}
+	}
+
+	/** Locks both ends so the whole chain can be read or changed. */
+	private void fullyLock() {
+		putLock.lock();
+		takeLock.lock();
+	}
+
+	private void fullyUnlock() {
+		takeLock.unlock();
+		putLock.unlock();
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * Returns {@code true} if this queue contains no elements.
+	 *
+	 * @return {@code true} if this queue is empty; {@code false} otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return count.get() == 0;
+	}
+
+	/**
+	 * Returns the number of elements in this queue.
+	 *
+	 * @return the current size of the queue
+	 */
+	@Override
+	public int size() {
+		return count.get();
+	}
+
+	/**
+	 * Returns {@code true} if this queue holds as many elements as its capacity.
+	 *
+	 * @return {@code true} if the queue is at capacity
+	 */
+	@Override
+	public boolean isFull() {
+		return count.get() == capacity;
+	}
+
+	// ========== Query Methods ==========
+
+	/**
+	 * Returns {@code true} if this queue contains the specified element.
+	 *
+	 * @param toFind the element whose presence in this queue is to be tested
+	 * @return {@code true} if this queue contains the specified element;
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if {@code toFind} is {@code null}
+	 */
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+		return search(toFind) != -1;
+	}
+
+	/**
+	 * Returns the 1-based position of the specified object in this queue, starting
+	 * from the front.
+	 *
+	 * @param toFind the desired object
+	 * @return the 1-based position from the front, or {@code -1} if not found
+	 */
+	@Override
+	public int search(E toFind) {
+		if (toFind == null) {
+			return -1;
+		}
+		fullyLock();
+		try {
+			int position = 1;
+			for (Node<E> current = head.next; current != null; current = current.next) {
+				if (toFind.equals(current.data)) {
+					return position;
+				}
+				position++;
+			}
+			return -1;
+		} finally {
+			fullyUnlock();
+		}
+	}
+
+	// ========== Array Conversion ==========
+
+	/**
+	 * Returns an array containing all of the elements in this queue from front to
+	 * rear.
+	 *
+	 * @return an array containing all elements from front to rear
+	 */
+	@Override
+	public Object[] toArray() {
+		fullyLock();
+		try {
+			Object[] result = new Object[count.get()];
+			int i = 0;
+			for (Node<E> current = head.next; current != null; current = current.next) {
+				result[i++] = current.data;
+			}
+			return result;
+		} finally {
+			fullyUnlock();
+		}
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this queue from front to
+	 * rear; the runtime type of the returned array is that of the specified array.
+	 *
+	 * @param holder the array into which the elements of the queue are to be
+	 *               stored, if it is big enough; otherwise, a new array of the same
+	 *               runtime type is allocated for this purpose
+	 * @return an array containing the elements of this queue from front to rear
+	 * @throws NullPointerException if {@code holder} is {@code null}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+		if (holder == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+		fullyLock();
+		try {
+			int size = count.get();
+			if (holder.length < size) {
+				holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+			}
+			int i = 0;
+			for (Node<E> current = head.next; current != null; current = current.next) {
+				holder[i++] = current.data;
+			}
+			if (holder.length > size) {
+				holder[size] = null;
+			}
+			return holder;
+		} finally {
+			fullyUnlock();
+		}
+	}
+
+	// ========== Iterator ==========
+
+	/**
+	 * Returns an iterator over the elements in this queue from front to rear, as
+	 * they were when this method was called.
+	 *
+	 * @return an iterator from front to rear
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new SnapshotIterator<>(toArray());
+	}
+
+	/**
+	 * Iterator over a copy of the queue, so that no lock is held while it runs.
+	 */
+	private static final class SnapshotIterator<E> implements Iterator<E> {
+
+		/** The elements from front to rear. */
+		private final Object[] snapshot;
+
+		/** Index of the next element to return. */
+		private int index;
+
+		SnapshotIterator(Object[] snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return index < snapshot.length;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements in the queue");
+			}
+			return (E) snapshot[index++];
+		}
+	}
+
+	// ========== Comparison ==========
+
+	/**
+	 * Compares this queue with another queue for equality. Two queues are
+	 * considered equal if they contain equal elements in the same order from front
+	 * to rear.
+	 *
+	 * @param that the queue to compare with
+	 * @return {@code true} if the queues are equal; {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(QueueADT<E> that) {
+		if (that == null) {
+			return false;
+		}
+		Object[] snapshot = toArray();
+		if (snapshot.length != that.size()) {
+			return false;
+		}
+		Iterator<E> thatIt = that.iterator();
+		for (Object element : snapshot) {
+			if (!thatIt.hasNext() || !element.equals(thatIt.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
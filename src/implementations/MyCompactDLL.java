@@ -0,0 +1,454 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Doubly-linked list implementation of the ListADT interface that keeps its
+ * nodes in parallel arrays instead of separate node objects.
+ *
+ * <p>
+ * A node is a slot number: its element lives in {@code elements[slot]} and its
+ * links in {@code prev[slot]} and {@code next[slot]}, with {@code -1} standing
+ * for no node. Compared with {@link MyDLL} this saves the header and the two
+ * reference fields of a {@link MyDLLNode} for every element, and leaves the
+ * garbage collector three arrays to trace instead of one object per element.
+ * Slots freed by a removal are chained through {@code next} and reused by later
+ * adds. The arrays grow by half when full and never shrink, except through
+ * {@link #clear()}, which keeps the current capacity.
+ * </p>
+ *
+ * <p>
+ * Like {@link MyDLL}, positional lookups remember the last slot they reached
+ * and walk from whichever of the head, the tail or that finger is closest.
+ * </p>
+ *
+ * @param <E> the type of elements stored in this list
+ */
+public class MyCompactDLL<E> implements ListADT<E> {
+
+	/** Default number of slots allocated by the no-arg constructor. */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	/** Link value meaning "no slot". */
+	private static final int NIL = -1;
+
+	/** Element stored in each slot; {@code null} for free slots. */
+	private Object[] elements;
+
+	/** Previous slot of each linked slot. */
+	private int[] prev;
+
+	/** Next slot of each linked slot, or next free slot of each free slot. */
+	private int[] next;
+
+	/** First slot in the list, or {@link #NIL} if the list is empty. */
+	private int head = NIL;
+
+	/** Last slot in the list, or {@link #NIL} if the list is empty. */
+	private int tail = NIL;
+
+	/** Number of elements currently stored in the list. */
+	private int size;
+
+	/** Number of structural changes, checked by iterators to fail fast. */
+	private int modCount;
+
+	/** Number of slots ever handed out; slots from here on have never been used. */
+	private int used;
+
+	/** First slot of the free chain, or {@link #NIL} if none. */
+	private int free = NIL;
+
+	/** Slot most recently reached by {@link #slotAt(int)}, or {@link #NIL}. */
+	private int finger = NIL;
+
+	/** Index of {@link #finger}; meaningless when the finger is {@link #NIL}. */
+	private int fingerIndex;
+
+	/**
+	 * Constructs an empty list with room for {@link #DEFAULT_CAPACITY} elements.
+	 */
+	public MyCompactDLL() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty list with room for {@code initialCapacity} elements
+	 * before its arrays have to grow.
+	 *
+	 * @param initialCapacity the initial number of slots
+	 * @throws IllegalArgumentException if {@code initialCapacity} is negative
+	 */
+	public MyCompactDLL(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must be >= 0");
+		}
+		elements = new Object[initialCapacity];
+		prev = new int[initialCapacity];
+		next = new int[initialCapacity];
+	}
+
+	/**
+	 * Returns a slot holding {@code data}, reusing a free slot if there is one.
+	 * The slot's links are left for the caller to set.
+	 */
+	private int obtainSlot(E data) {
+		int slot = free;
+		if (slot != NIL) {
+			free = next[slot];
+		} else {
+			if (used == elements.length) {
+				grow();
+			}
+			slot = used++;
+		}
+		elements[slot] = data;
+		return slot;
+	}
+
+	/**
+	 * Clears a slot that has left the list and puts it on the free chain.
+	 */
+	private void releaseSlot(int slot) {
+		elements[slot] = null;
+		next[slot] = free;
+		free = slot;
+	}
+
+	/**
+	 * Enlarges the three arrays by half, by at least one slot.
+	 */
+	private void grow() {
+		int capacity = elements.length + (elements.length >> 1) + 1;
+		elements = Arrays.copyOf(elements, capacity);
+		prev = Arrays.copyOf(prev, capacity);
+		next = Arrays.copyOf(next, capacity);
+	}
+
+	@SuppressWarnings("unchecked")
+	private E elementAt(int slot) {
+		return (E) elements[slot];
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void clear() {
+		Arrays.fill(elements, 0, used, null);
+		head = NIL;
+		tail = NIL;
+		size = 0;
+		modCount++;
+		used = 0;
+		free = NIL;
+		finger = NIL;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean add(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+
+		int slot = obtainSlot(toAdd);
+		prev[slot] = tail;
+		next[slot] = NIL;
+		if (tail == NIL) {
+			head = slot;
+		} else {
+			next[tail] = slot;
+		}
+		tail = slot;
+
+		size++;
+		modCount++;
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		// Append at the end
+		if (index == size) {
+			return add(toAdd);
+		}
+
+		// Insert before the slot at position index
+		int successor = slotAt(index);
+		int slot = obtainSlot(toAdd);
+		int predecessor = prev[successor];
+
+		prev[slot] = predecessor;
+		next[slot] = successor;
+		prev[successor] = slot;
+		if (predecessor == NIL) {
+			head = slot;
+		} else {
+			next[predecessor] = slot;
+		}
+
+		size++;
+		modCount++;
+		finger = slot;
+		fingerIndex = index;
+		return true;
+	}
+
+	/**
+	 * Returns the slot at the given index. This method runs in O(n), but starts
+	 * from the head, the tail or the finger, whichever is closest to index, and
+	 * leaves the finger on the slot it returns.
+	 *
+	 * @param index the index of the slot to retrieve
+	 * @return the slot holding the element at the specified index
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 */
+	private int slotAt(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		int current;
+		int position;
+
+		// Start from head or tail, whichever is closer
+		if (index < size / 2) {
+			current = head;
+			position = 0;
+		} else {
+			current = tail;
+			position = size - 1;
+		}
+		// Start from the finger instead if it is closer still
+		if (finger != NIL && Math.abs(index - fingerIndex) < Math.abs(index - position)) {
+			current = finger;
+			position = fingerIndex;
+		}
+
+		for (; position < index; position++) {
+			current = next[current];
+		}
+		for (; position > index; position--) {
+			current = prev[current];
+		}
+
+		finger = current;
+		fingerIndex = index;
+		return current;
+	}
+
+	/**
+	 * Unlinks the slot at position {@code index}, frees it and returns its
+	 * element. The finger moves to the slot's successor, which takes over its
+	 * index, or to its predecessor at the tail.
+	 */
+	private E unlink(int slot, int index) {
+		E removed = elementAt(slot);
+		int predecessor = prev[slot];
+		int successor = next[slot];
+
+		if (predecessor == NIL) {
+			head = successor;
+		} else {
+			next[predecessor] = successor;
+		}
+		if (successor == NIL) {
+			tail = predecessor;
+		} else {
+			prev[successor] = predecessor;
+		}
+
+		if (successor != NIL) {
+			finger = successor;
+			fingerIndex = index;
+		} else if (predecessor != NIL) {
+			finger = predecessor;
+			fingerIndex = index - 1;
+		} else {
+			finger = NIL;
+		}
+
+		releaseSlot(slot);
+		size--;
+		modCount++;
+		return removed;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E get(int index) throws IndexOutOfBoundsException {
+		return elementAt(slotAt(index));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("Cannot set null element");
+		}
+
+		int slot = slotAt(index);
+		E oldData = elementAt(slot);
+		elements[slot] = toChange;
+		return oldData;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E remove(int index) throws IndexOutOfBoundsException {
+		return unlink(slotAt(index), index);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E remove(E toRemove) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Cannot remove null element");
+		}
+
+		int index = 0;
+		for (int slot = head; slot != NIL; slot = next[slot]) {
+			if (elements[slot].equals(toRemove)) {
+				return unlink(slot, index);
+			}
+			index++;
+		}
+
+		return null;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+
+		for (int slot = head; slot != NIL; slot = next[slot]) {
+			if (elements[slot].equals(toFind)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null list");
+		}
+
+		Iterator<? extends E> it = toAdd.iterator();
+		while (it.hasNext()) {
+			add(it.next());
+		}
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		int index = 0;
+		for (int slot = head; slot != NIL; slot = next[slot]) {
+			result[index++] = elements[slot];
+		}
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] toHold) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+
+		int index = 0;
+		for (int slot = head; slot != NIL; slot = next[slot]) {
+			toHold[index++] = elementAt(slot);
+		}
+
+		if (toHold.length > size) {
+			toHold[size] = null;
+		}
+
+		return toHold;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Iterator<E> iterator() {
+		return new CompactDLLIterator();
+	}
+
+	/**
+	 * Iterator implementation for the array-backed doubly-linked list. It fails
+	 * fast if the list is structurally modified after the iterator was created.
+	 */
+	private class CompactDLLIterator implements Iterator<E> {
+
+		/** The list's modification count when this iterator was created. */
+		private final int expectedModCount = modCount;
+
+		/** The current slot in the iteration. */
+		private int current;
+
+		/**
+		 * Constructs an iterator starting at the head of the list.
+		 */
+		public CompactDLLIterator() {
+			current = head;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return current != NIL;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public E next() throws NoSuchElementException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			E data = elementAt(current);
+			current = next[current];
+			return data;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package implementations;
 
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import utilities.Iterator;
@@ -8,6 +9,25 @@ import utilities.ListADT;
 /**
  * Doubly-linked list implementation of the ListADT interface.
  *
+ * <p>
+ * Positional lookups remember the last node they reached (a <em>finger</em>)
+ * and its index, and the next lookup walks from whichever of the head, the tail
+ * or the finger is closest. A loop such as {@code for (i...) list.get(i)}
+ * therefore takes one step per call instead of up to n/2.
+ * </p>
+ *
+ * <p>
+ * A list can optionally keep a bounded pool of spare nodes. Removed and cleared
+ * nodes are put back in the pool, up to its capacity, and later adds take nodes
+ * from it instead of allocating, so a list with steady churn stops producing
+ * garbage.
+ * </p>
+ *
+ * <p>
+ * The iterator is fail-fast: it throws {@link ConcurrentModificationException}
+ * if the list is structurally modified after it was created.
+ * </p>
+ *
  * @param <E> the type of elements stored in this list
  */
 public class MyDLL<E> implements ListADT<E> {
@@ -21,6 +41,24 @@ public class MyDLL<E> implements ListADT<E> {
 	/** Number of elements currently stored in the list. */
 	private int size;
 
+	/** Node most recently reached by {@link #getNode(int)}, or {@code null}. */
+	private MyDLLNode<E> finger;
+
+	/** Index of {@link #finger}; meaningless when the finger is {@code null}. */
+	private int fingerIndex;
+
+	/** Spare nodes chained through {@code next}, or {@code null} if none. */
+	private MyDLLNode<E> pool;
+
+	/** Number of nodes in {@link #pool}. */
+	private int poolSize;
+
+	/** Maximum number of spare nodes kept; {@code 0} disables pooling. */
+	private final int poolCapacity;
+
+	/** Number of structural changes, checked by iterators to fail fast. */
+	private int modCount;
+
 	/**
 	 * Constructs an empty doubly-linked list.
 	 */
@@ -28,6 +66,52 @@ public class MyDLL<E> implements ListADT<E> {
 		head = null;
 		tail = null;
 		size = 0;
+		poolCapacity = 0;
+	}
+
+	/**
+	 * Constructs an empty doubly-linked list that recycles up to
+	 * {@code poolCapacity} removed nodes.
+	 *
+	 * @param poolCapacity the maximum number of spare nodes to keep
+	 * @throws IllegalArgumentException if {@code poolCapacity} is negative
+	 */
+	public MyDLL(int poolCapacity) {
+		if (poolCapacity < 0) {
+			throw new IllegalArgumentException("poolCapacity must be >= 0");
+		}
+		this.poolCapacity = poolCapacity;
+	}
+
+	/**
+	 * Returns a node holding {@code data}, taken from the pool if one is spare.
+	 */
+	private MyDLLNode<E> obtainNode(E data) {
+		MyDLLNode<E> node = pool;
+		if (node == null) {
+			return new MyDLLNode<>(data);
+		}
+		pool = node.next;
+		poolSize--;
+		node.next = null;
+		node.data = data;
+		return node;
+	}
+
+	/**
+	 * Clears a node that has left the list and keeps it in the pool if there is
+	 * room.
+	 */
+	private void recycle(MyDLLNode<E> node) {
+		node.data = null;
+		node.prev = null;
+		if (poolSize < poolCapacity) {
+			node.next = pool;
+			pool = node;
+			poolSize++;
+		} else {
+			node.next = null;
+		}
 	}
 
 	/** {@inheritDoc} */
@@ -48,14 +132,14 @@ public class MyDLL<E> implements ListADT<E> {
 		MyDLLNode<E> current = head;
 		while (current != null) {
 			MyDLLNode<E> next = current.next;
-			current.data = null;
-			current.prev = null;
-			current.next = null;
+			recycle(current);
 			current = next;
 		}
 		head = null;
 		tail = null;
 		size = 0;
+		finger = null;
+		modCount++;
 	}
 
 	/** {@inheritDoc} */
@@ -65,7 +149,7 @@ public class MyDLL<E> implements ListADT<E> {
 			throw new NullPointerException("Cannot add null element");
 		}
 
-		MyDLLNode<E> newNode = new MyDLLNode<>(toAdd);
+		MyDLLNode<E> newNode = obtainNode(toAdd);
 
 		if (isEmpty()) {
 			head = newNode;
@@ -77,6 +161,7 @@ public class MyDLL<E> implements ListADT<E> {
 		}
 
 		size++;
+		modCount++;
 		return true;
 	}
 
@@ -98,7 +183,7 @@ public class MyDLL<E> implements ListADT<E> {
 
 		// Insert at the head
 		if (index == 0) {
-			MyDLLNode<E> newNode = new MyDLLNode<>(toAdd);
+			MyDLLNode<E> newNode = obtainNode(toAdd);
 			newNode.next = head;
 			if (head != null) {
 				head.prev = newNode;
@@ -108,12 +193,15 @@ public class MyDLL<E> implements ListADT<E> {
 				tail = newNode;
 			}
 			size++;
+			modCount++;
+			finger = newNode;
+			fingerIndex = 0;
 			return true;
 		}
 
 		// Insert in the middle (before node at position index)
 		MyDLLNode<E> current = getNode(index);
-		MyDLLNode<E> newNode = new MyDLLNode<>(toAdd);
+		MyDLLNode<E> newNode = obtainNode(toAdd);
 
 		newNode.prev = current.prev;
 		newNode.next = current;
@@ -121,12 +209,16 @@ public class MyDLL<E> implements ListADT<E> {
 		current.prev = newNode;
 
 		size++;
+		modCount++;
+		finger = newNode;
+		fingerIndex = index;
 		return true;
 	}
 
 	/**
-	 * Returns the node at the given index. This method runs in O(n), but uses
-	 * bidirectional traversal to start from head or tail depending on index.
+	 * Returns the node at the given index. This method runs in O(n), but starts
+	 * from the head, the tail or the finger, whichever is closest to index, and
+	 * leaves the finger on the node it returns.
 	 *
 	 * @param index the index of the node to retrieve
 	 * @return the node at the specified index
@@ -138,20 +230,31 @@ public class MyDLL<E> implements ListADT<E> {
 		}
 
 		MyDLLNode<E> current;
+		int position;
 
-		// If index is in the first half, start from head
+		// Start from head or tail, whichever is closer
 		if (index < size / 2) {
 			current = head;
-			for (int i = 0; i < index; i++) {
-				current = current.next;
-			}
-		} else { // Otherwise start from tail
+			position = 0;
+		} else {
 			current = tail;
-			for (int i = size - 1; i > index; i--) {
-				current = current.prev;
-			}
+			position = size - 1;
+		}
+		// Start from the finger instead if it is closer still
+		if (finger != null && Math.abs(index - fingerIndex) < Math.abs(index - position)) {
+			current = finger;
+			position = fingerIndex;
+		}
+
+		for (; position < index; position++) {
+			current = current.next;
+		}
+		for (; position > index; position--) {
+			current = current.prev;
 		}
 
+		finger = current;
+		fingerIndex = index;
 		return current;
 	}
 
@@ -207,11 +310,20 @@ public class MyDLL<E> implements ListADT<E> {
 			nodeToRemove.next.prev = nodeToRemove.prev;
 		}
 
-		nodeToRemove.prev = null;
-		nodeToRemove.next = null;
-		nodeToRemove.data = null;
+		// Move the finger off the removed node: its successor now has its index
+		if (nodeToRemove.next != null) {
+			finger = nodeToRemove.next;
+		} else if (nodeToRemove.prev != null) {
+			finger = nodeToRemove.prev;
+			fingerIndex = index - 1;
+		} else {
+			finger = null;
+		}
+
+		recycle(nodeToRemove);
 
 		size--;
+		modCount++;
 		return removedData;
 	}
 
@@ -268,6 +380,98 @@ public class MyDLL<E> implements ListADT<E> {
 		return true;
 	}
 
+	/**
+	 * Moves every element of {@code source} to the end of this list, leaving
+	 * {@code source} empty. The source's nodes are relinked rather than copied, so
+	 * this runs in constant time whatever the lengths of the lists.
+	 *
+	 * @param source the list whose elements are to be moved
+	 * @throws NullPointerException     if {@code source} is {@code null}
+	 * @throws IllegalArgumentException if {@code source} is this list
+	 */
+	public void transferAll(MyDLL<? extends E> source) throws NullPointerException {
+		if (source == null) {
+			throw new NullPointerException("Cannot transfer from null list");
+		}
+		splice(source, 0, source.size);
+	}
+
+	/**
+	 * Moves the elements of {@code source} at indices {@code from} (inclusive) to
+	 * {@code to} (exclusive) to the end of this list, in order, removing them from
+	 * {@code source}. The run of nodes is cut out and relinked without copying.
+	 * Locating the run walks from whichever end of {@code source} is closer, and
+	 * costs nothing when the run starts at the head and ends at the tail.
+	 *
+	 * @param source the list whose elements are to be moved
+	 * @param from   the index of the first element to move
+	 * @param to     the index after the last element to move
+	 * @throws NullPointerException      if {@code source} is {@code null}
+	 * @throws IllegalArgumentException  if {@code source} is this list
+	 * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of
+	 *                                   range, or {@code from > to}
+	 */
+	@SuppressWarnings("unchecked")
+	public void splice(MyDLL<? extends E> source, int from, int to)
+			throws NullPointerException, IndexOutOfBoundsException {
+		if (source == null) {
+			throw new NullPointerException("Cannot splice from null list");
+		}
+		if (source == this) {
+			throw new IllegalArgumentException("Cannot splice a list into itself");
+		}
+		if (from < 0 || to > source.size || from > to) {
+			throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + source.size);
+		}
+		int count = to - from;
+		if (count == 0) {
+			return;
+		}
+
+		// The source's nodes hold E values (or a subtype), so they can be linked here
+		MyDLL<E> src = (MyDLL<E>) source;
+		MyDLLNode<E> first = src.getNode(from);
+		MyDLLNode<E> last;
+		if (to == src.size) {
+			last = src.tail;
+		} else if (count - 1 <= src.size - to) {
+			// Walking on from the first node is no longer than coming from the tail
+			last = first;
+			for (int i = 1; i < count; i++) {
+				last = last.next;
+			}
+		} else {
+			last = src.getNode(to - 1);
+		}
+
+		// Cut the run out of the source
+		if (first.prev == null) {
+			src.head = last.next;
+		} else {
+			first.prev.next = last.next;
+		}
+		if (last.next == null) {
+			src.tail = first.prev;
+		} else {
+			last.next.prev = first.prev;
+		}
+		src.size -= count;
+		src.modCount++;
+		src.finger = null;
+
+		// Link it onto the end of this list
+		first.prev = tail;
+		last.next = null;
+		if (tail == null) {
+			head = first;
+		} else {
+			tail.next = first;
+		}
+		tail = last;
+		size += count;
+		modCount++;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public Object[] toArray() {
@@ -318,13 +522,17 @@ public class MyDLL<E> implements ListADT<E> {
 	}
 
 	/**
-	 * Iterator implementation for the doubly-linked list.
+	 * Iterator implementation for the doubly-linked list. It fails fast if the
+	 * list is structurally modified after the iterator was created.
 	 */
 	private class DLLIterator implements Iterator<E> {
 
 		/** The current node in the iteration. */
 		private MyDLLNode<E> current;
 
+		/** The list's modification count when this iterator was created. */
+		private final int expectedModCount = modCount;
+
 		/**
 		 * Constructs an iterator starting at the head of the list.
 		 */
@@ -341,6 +549,9 @@ public class MyDLL<E> implements ListADT<E> {
 		/** {@inheritDoc} */
 		@Override
 		public E next() throws NoSuchElementException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
 			if (!hasNext()) {
 				throw new NoSuchElementException("No more elements in the list");
 			}
@@ -0,0 +1,139 @@
+package implementations;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import utilities.StackADT;
+
+/**
+ * {@code MyEliminationStack} is a thread-safe, lock-free implementation of the
+ * {@link StackADT} interface that adds an elimination array to a Treiber stack.
+ *
+ * <p>
+ * As in {@link MyLockFreeStack}, the top of a chain of immutable nodes is held
+ * in an {@link AtomicReference} and changed by compare-and-set. When that CAS
+ * fails because other threads are hammering the top, a push does not simply
+ * retry: it parks its item in a random slot of a small elimination array and
+ * waits a short while. A pop whose CAS fails looks in a random slot and, if it
+ * finds a parked item, takes it. The push and the pop then cancel out without
+ * touching the top at all, so under heavy paired push/pop traffic most
+ * operations complete in the elimination array in parallel instead of
+ * serialising on one memory location. A push that is not taken in time
+ * withdraws its item and goes back to the top.
+ * </p>
+ *
+ * <p>
+ * A pop never waits in the array: when it finds the stack empty it throws
+ * {@link EmptyStackException} at once. Only push and pop are overridden; the
+ * read-only methods are inherited from {@link MyLockFreeStack} and work on a
+ * snapshot of the top. Items parked in the elimination array are in flight and
+ * are not part of any snapshot.
+ * </p>
+ *
+ * @param <E> the type of elements stored in this stack
+ */
+public class MyEliminationStack<E> extends MyLockFreeStack<E> {
+
+	/** Number of polls a parked push waits for a matching pop. */
+	private static final int SPINS = 128;
+
+	/**
+	 * An item parked in the elimination array by a push. A fresh offer is made
+	 * for every attempt, so a slot compare-and-set can never confuse two pushes
+	 * of the same item.
+	 */
+	private static final class Offer<E> {
+		final E data;
+
+		Offer(E data) {
+			this.data = data;
+		}
+	}
+
+	/** Slots where pushes park items for pops to take; {@code null} when free. */
+	private final AtomicReferenceArray<Offer<E>> slots;
+
+	/**
+	 * Constructs an empty stack with one elimination slot per two available
+	 * processors (at least one).
+	 */
+	public MyEliminationStack() {
+		this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+	}
+
+	/**
+	 * Constructs an empty stack with the given number of elimination slots.
+	 *
+	 * @param slots the size of the elimination array
+	 * @throws IllegalArgumentException if {@code slots} is less than 1
+	 */
+	public MyEliminationStack(int slots) {
+		if (slots < 1) {
+			throw new IllegalArgumentException("slots must be >= 1");
+		}
+		this.slots = new AtomicReferenceArray<>(slots);
+	}
+
+	/**
+	 * Pushes an item onto the top of this stack, or hands it straight to a
+	 * concurrent pop.
+	 *
+	 * @param toAdd the item to be pushed
+	 * @throws NullPointerException if {@code toAdd} is {@code null}
+	 */
+	@Override
+	public void push(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot push null element");
+		}
+		while (!tryPush(toAdd)) {
+			if (eliminatePush(toAdd)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Parks {@code toAdd} in a random free slot and waits for a pop to take it.
+	 *
+	 * @return {@code true} if a pop took the item
+	 */
+	private boolean eliminatePush(E toAdd) {
+		int index = ThreadLocalRandom.current().nextInt(slots.length());
+		Offer<E> offer = new Offer<>(toAdd);
+		if (!slots.compareAndSet(index, null, offer)) {
+			return false;
+		}
+		for (int i = 0; i < SPINS; i++) {
+			if (slots.get(index) != offer) {
+				return true;
+			}
+		}
+		// Withdraw; if that fails a pop took the offer at the last moment
+		return !slots.compareAndSet(index, offer, null);
+	}
+
+	/**
+	 * Removes and returns the object at the top of this stack, or an item handed
+	 * over by a concurrent push.
+	 *
+	 * @return the item popped off the top of this stack
+	 * @throws EmptyStackException if the stack is empty
+	 */
+	@Override
+	public E pop() throws EmptyStackException {
+		while (true) {
+			E popped = tryPop();
+			if (popped != null) {
+				return popped;
+			}
+			int index = ThreadLocalRandom.current().nextInt(slots.length());
+			Offer<E> offer = slots.get(index);
+			if (offer != null && slots.compareAndSet(index, offer, null)) {
+				return offer.data;
+			}
+		}
+	}
+}
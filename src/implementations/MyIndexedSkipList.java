@@ -0,0 +1,372 @@
+package implementations;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Indexable skip list implementation of the ListADT interface.
+ *
+ * <p>
+ * Elements are kept in list order on the bottom level of a skip list; each
+ * node also appears on a random number of express levels above it. Every
+ * forward link records its <em>span</em>, the number of positions it skips, so
+ * positional {@link #get(int)}, {@link #set(int, Object)},
+ * {@link #add(int, Object)} and {@link #remove(int)} descend the levels adding
+ * up spans and run in expected O(log n) time, where {@link MyDLL} walks up to
+ * n/2 nodes. Value-based operations ({@link #contains(Object)},
+ * {@link #remove(Object)}) remain linear scans.
+ * </p>
+ *
+ * @param <E> the type of elements stored in this list
+ */
+public class MyIndexedSkipList<E> implements ListADT<E> {
+
+	/** Maximum number of levels; enough for far more than 2^31 elements. */
+	private static final int MAX_LEVEL = 32;
+
+	/**
+	 * A node on levels {@code 0..next.length-1}. {@code span[l]} is the number of
+	 * positions between this node and {@code next[l]}; it is meaningless when
+	 * {@code next[l]} is {@code null}.
+	 */
+	private static final class Node<E> {
+		E data;
+		final Node<E>[] next;
+		final int[] span;
+
+		Node(E data, int level) {
+			this.data = data;
+			@SuppressWarnings({ "unchecked", "rawtypes" })
+			Node<E>[] links = (Node<E>[]) new Node[level];
+			this.next = links;
+			this.span = new int[level];
+		}
+	}
+
+	/** Sentinel before the first element, present on every level. */
+	private final Node<E> head = new Node<E>(null, MAX_LEVEL);
+
+	/** Number of levels currently in use (at least 1). */
+	private int level = 1;
+
+	/** Number of elements currently stored in the list. */
+	private int size;
+
+	/** Number of structural changes, checked by iterators to fail fast. */
+	private int modCount;
+
+	/** State of the xorshift generator choosing node levels. */
+	private int seed = 0x2545F491;
+
+	/** Scratch arrays for add and remove: predecessor and its position per level. */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private final Node<E>[] update = (Node<E>[]) new Node[MAX_LEVEL];
+	private final int[] rank = new int[MAX_LEVEL];
+
+	/**
+	 * Constructs an empty list.
+	 */
+	public MyIndexedSkipList() {
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void clear() {
+		Node<E> current = head.next[0];
+		while (current != null) {
+			Node<E> next = current.next[0];
+			current.data = null;
+			for (int l = 0; l < current.next.length; l++) {
+				current.next[l] = null;
+			}
+			current = next;
+		}
+		for (int l = 0; l < MAX_LEVEL; l++) {
+			head.next[l] = null;
+		}
+		level = 1;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Returns a random level between 1 and {@link #MAX_LEVEL}, each level being a
+	 * quarter as likely as the one below.
+	 */
+	private int randomLevel() {
+		int x = seed;
+		x ^= x << 13;
+		x ^= x >>> 17;
+		x ^= x << 5;
+		seed = x;
+		int lvl = 1 + (Integer.numberOfTrailingZeros(x | (1 << 30)) >> 1);
+		return Math.min(lvl, MAX_LEVEL);
+	}
+
+	/**
+	 * Fills {@link #update} and {@link #rank} with, for each level, the last node
+	 * before position {@code index} (0-based) and that node's position, where the
+	 * head is position -1.
+	 */
+	private void findPredecessors(int index) {
+		Node<E> x = head;
+		int pos = -1;
+		for (int l = level - 1; l >= 0; l--) {
+			while (x.next[l] != null && pos + x.span[l] < index) {
+				pos += x.span[l];
+				x = x.next[l];
+			}
+			update[l] = x;
+			rank[l] = pos;
+		}
+	}
+
+	/**
+	 * Returns the node at {@code index}, descending from the top level.
+	 */
+	private Node<E> nodeAt(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		Node<E> x = head;
+		int pos = -1;
+		for (int l = level - 1; l >= 0; l--) {
+			while (x.next[l] != null && pos + x.span[l] <= index) {
+				pos += x.span[l];
+				x = x.next[l];
+			}
+			if (pos == index) {
+				return x;
+			}
+		}
+		return x;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean add(E toAdd) throws NullPointerException {
+		return add(size, toAdd);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		int lvl = randomLevel();
+		if (lvl > level) {
+			for (int l = level; l < lvl; l++) {
+				head.next[l] = null;
+			}
+			level = lvl;
+		}
+		findPredecessors(index);
+
+		Node<E> node = new Node<E>(toAdd, lvl);
+		for (int l = 0; l < lvl; l++) {
+			Node<E> before = update[l];
+			// distance from the predecessor to the new node
+			int gap = index - rank[l];
+			node.next[l] = before.next[l];
+			if (node.next[l] != null) {
+				node.span[l] = before.span[l] - gap + 1;
+			}
+			before.next[l] = node;
+			before.span[l] = gap;
+		}
+		// Links passing over the new node now skip one more position
+		for (int l = lvl; l < level; l++) {
+			if (update[l].next[l] != null) {
+				update[l].span[l]++;
+			}
+		}
+		size++;
+		modCount++;
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E get(int index) throws IndexOutOfBoundsException {
+		return nodeAt(index).data;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("Cannot set null element");
+		}
+		Node<E> node = nodeAt(index);
+		E oldData = node.data;
+		node.data = toChange;
+		return oldData;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E remove(int index) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		findPredecessors(index);
+		Node<E> target = update[0].next[0];
+
+		for (int l = 0; l < level; l++) {
+			Node<E> before = update[l];
+			if (before.next[l] == target) {
+				before.next[l] = target.next[l];
+				if (target.next[l] != null) {
+					before.span[l] += target.span[l] - 1;
+				}
+			} else if (before.next[l] != null) {
+				before.span[l]--;
+			}
+		}
+		while (level > 1 && head.next[level - 1] == null) {
+			level--;
+		}
+
+		E removedData = target.data;
+		target.data = null;
+		for (int l = 0; l < target.next.length; l++) {
+			target.next[l] = null;
+		}
+		size--;
+		modCount++;
+		return removedData;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E remove(E toRemove) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Cannot remove null element");
+		}
+		int index = 0;
+		for (Node<E> current = head.next[0]; current != null; current = current.next[0]) {
+			if (current.data.equals(toRemove)) {
+				return remove(index);
+			}
+			index++;
+		}
+		return null;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+		for (Node<E> current = head.next[0]; current != null; current = current.next[0]) {
+			if (current.data.equals(toFind)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null list");
+		}
+		Iterator<? extends E> it = toAdd.iterator();
+		while (it.hasNext()) {
+			add(it.next());
+		}
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		int index = 0;
+		for (Node<E> current = head.next[0]; current != null; current = current.next[0]) {
+			result[index++] = current.data;
+		}
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] toHold) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+		int index = 0;
+		for (Node<E> current = head.next[0]; current != null; current = current.next[0]) {
+			toHold[index++] = current.data;
+		}
+		if (toHold.length > size) {
+			toHold[size] = null;
+		}
+		return toHold;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Iterator<E> iterator() {
+		return new SkipListIterator();
+	}
+
+	/**
+	 * Iterator along the bottom level of the skip list. It fails fast if the
+	 * list is structurally modified after the iterator was created.
+	 */
+	private class SkipListIterator implements Iterator<E> {
+
+		/** The list's modification count when this iterator was created. */
+		private final int expectedModCount = modCount;
+
+		/** The node holding the next element. */
+		private Node<E> current = head.next[0];
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public E next() throws NoSuchElementException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			E data = current.data;
+			current = current.next[0];
+			return data;
+		}
+	}
+}
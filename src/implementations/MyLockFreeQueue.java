@@ -0,0 +1,491 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.QueueADT;
+
+/**
+ * {@code MyLockFreeQueue} is a thread-safe, lock-free implementation of the
+ * {@link QueueADT} interface for any number of producers and consumers (a
+ * Michael-Scott queue).
+ *
+ * <p>
+ * The queue is a singly-linked chain that always starts with a dummy node. The
+ * head and tail are held in {@link AtomicReference}s and each node's link is
+ * updated by compare-and-set. Enqueue appends a node to the last link and then
+ * swings the tail; dequeue swings the head to the first real node, which
+ * becomes the new dummy. A thread that finds the tail lagging advances it
+ * before retrying, so no thread ever waits for another.
+ * </p>
+ *
+ * <p>
+ * There is no shared element counter, which would put every producer and
+ * consumer back on one contended location. {@link #size()},
+ * {@link #search(Object)}, {@link #toArray()} and the iterator walk the chain
+ * instead: they take O(n) time and are weakly consistent, reflecting some of
+ * the changes made while they run.
+ * </p>
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MyLockFreeQueue<E> implements QueueADT<E> {
+
+	/**
+	 * A queue node. {@code data} is cleared once the node has become the dummy so
+	 * that the queue does not retain a dequeued element.
+	 */
+	private static final class Node<E> {
+		E data;
+		volatile Node<E> next;
+
+		Node(E data) {
+			this.data = data;
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<Node, Node> NEXT = AtomicReferenceFieldUpdater
+			.newUpdater(Node.class, Node.class, "next");
+
+	/** The dummy node before the front element. */
+	private final AtomicReference<Node<E>> head;
+
+	/** The last node, or a node shortly before it while an enqueue is in flight. */
+	private final AtomicReference<Node<E>> tail;
+
+	/**
+	 * Constructs an empty queue.
+	 */
+	public MyLockFreeQueue() {
+		Node<E> dummy = new Node<>(null);
+		head = new AtomicReference<>(dummy);
+		tail = new AtomicReference<>(dummy);
+	}
+
+	// ========== Core Queue Operations ==========
+
+	/**
+	 * Adds an item to the rear of this queue.
+	 *
+	 * @param toAdd the item to be added to the queue
+	 * @throws NullPointerException if {@code toAdd} is {@code null}
+	 */
+	@Override
+	public void enqueue(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null element");
+		}
+		Node<E> node = new Node<>(toAdd);
+		append(node, node);
+	}
+
+	/**
+	 * Links the chain {@code first..end} after the last node with one
+	 * compare-and-set, then swings the tail to {@code end}.
+	 */
+	private void append(Node<E> first, Node<E> end) {
+		while (true) {
+			Node<E> last = tail.get();
+			Node<E> next = last.next;
+			if (next != null) {
+				// Another enqueue linked its node but has not moved the tail yet
+				tail.compareAndSet(last, next);
+			} else if (NEXT.compareAndSet(last, null, first)) {
+				tail.compareAndSet(last, end);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Removes and returns the item at the front of the queue.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws EmptyQueueException if the queue is empty
+	 */
+	@Override
+	public E dequeue() throws EmptyQueueException {
+		E element = poll();
+		if (element == null) {
+			throw new EmptyQueueException("Queue is empty");
+		}
+		return element;
+	}
+
+	/**
+	 * Removes and returns the item at the front of the queue, or returns
+	 * {@code null} if it is empty.
+	 */
+	private E poll() {
+		while (true) {
+			Node<E> first = head.get();
+			Node<E> last = tail.get();
+			Node<E> next = first.next;
+			if (next == null) {
+				return null;
+			}
+			if (first == last) {
+				// Never let the head pass the tail
+				tail.compareAndSet(last, next);
+			} else if (head.compareAndSet(first, next)) {
+				// Only the thread that made next the dummy may clear it
+				E data = next.data;
+				next.data = null;
+				return data;
+			}
+		}
+	}
+
+	/**
+	 * Returns the item at the front of the queue without removing it.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws EmptyQueueException if the queue is empty
+	 */
+	@Override
+	public E peek() throws EmptyQueueException {
+		while (true) {
+			Node<E> first = head.get();
+			Node<E> next = first.next;
+			if (next == null) {
+				throw new EmptyQueueException("Queue is empty");
+			}
+			E data = next.data;
+			// data is null only if next was dequeued meanwhile; look again
+			if (data != null) {
+				return data;
+			}
+		}
+	}
+
+	/**
+	 * Removes all items that are in the queue when the head is swung past them,
+	 * in one atomic step. Items enqueued concurrently may remain.
+	 */
+	@Override
+	public void dequeueAll() {
+		while (true) {
+			Node<E> first = head.get();
+			Node<E> last = first;
+			for (Node<E> next = last.next; next != null; next = next.next) {
+				last = next;
+			}
+			if (last == first) {
+				return;
+			}
+			if (head.compareAndSet(first, last)) {
+				last.data = null;
+				// Bring the tail up so it does not keep the dropped nodes reachable
+				Node<E> end = tail.get();
+				for (Node<E> next = end.next; next != null; next = end.next) {
+					tail.compareAndSet(end, next);
+					end = tail.get();
+				}
+				return;
+			}
+		}
+	}
+
+	// ========== Bulk Operations ==========
+
+	/**
+	 * Removes up to {@code max} items from the front of this queue and appends
+	 * them, in queue order, to {@code sink}. Each item is removed atomically, but
+	 * items enqueued or dequeued by other threads meanwhile may interleave with
+	 * the batch.
+	 *
+	 * <p>
+	 * An item is removed before it is handed to {@code sink}, because another
+	 * consumer could take it between a look at the front and its removal. If
+	 * {@code sink} throws, the item it rejected is therefore in neither this queue
+	 * nor the sink: it is lost. The items the sink accepted before it stay there,
+	 * and the items not yet removed stay in this queue. Drain only into sinks
+	 * that cannot fail, such as an unbounded list.
+	 * </p>
+	 *
+	 * @param sink the list to which the items are appended
+	 * @param max  the maximum number of items to move
+	 * @return the number of items moved
+	 * @throws NullPointerException     if {@code sink} is {@code null}
+	 * @throws IllegalArgumentException if {@code max} is negative
+	 */
+	public int drainTo(ListADT<? super E> sink, int max) throws NullPointerException {
+		if (sink == null) {
+			throw new NullPointerException("Cannot drain to null list");
+		}
+		if (max < 0) {
+			throw new IllegalArgumentException("max must be >= 0");
+		}
+		int moved = 0;
+		E element;
+		while (moved < max && (element = poll()) != null) {
+			sink.add(element);
+			moved++;
+		}
+		return moved;
+	}
+
+	/**
+	 * Adds every item of {@code toAdd} to the rear of this queue, in list order.
+	 * The items are chained privately first and then linked with a single
+	 * compare-and-set, so they appear together and cost one contended operation
+	 * for the whole batch.
+	 *
+	 * @param toAdd the list whose items are to be enqueued
+	 * @throws NullPointerException if {@code toAdd} or any of its items is
+	 *                              {@code null}
+	 */
+	public void enqueueAll(ListADT<? extends E> toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null list");
+		}
+		Iterator<? extends E> it = toAdd.iterator();
+		if (!it.hasNext()) {
+			return;
+		}
+		Node<E> first = null;
+		Node<E> end = null;
+		while (it.hasNext()) {
+			E element = it.next();
+			if (element == null) {
+				throw new NullPointerException("Cannot enqueue null element");
+			}
+			Node<E> node = new Node<>(element);
+			if (first == null) {
+				first = node;
+			} else {
+				end.next = node;
+			}
+			end = node;
+		}
+		append(first, end);
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * Returns {@code true} if this queue contains no elements.
+	 *
+	 * @return {@code true} if this queue is empty; {@code false} otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return head.get().next == null;
+	}
+
+	/**
+	 * Returns the number of elements in this queue by walking the chain.
+	 *
+	 * @return the current size of the queue
+	 */
+	@Override
+	public int size() {
+		int count = 0;
+		for (Node<E> current = head.get().next; current != null; current = current.next) {
+			if (current.data != null && ++count == Integer.MAX_VALUE) {
+				break;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns {@code false}: a linked queue has no fixed capacity.
+	 *
+	 * @return {@code false} because this queue has no fixed capacity
+	 */
+	@Override
+	public boolean isFull() {
+		return false;
+	}
+
+	// ========== Query Methods ==========
+
+	/**
+	 * Returns {@code true} if this queue contains the specified element.
+	 *
+	 * @param toFind the element whose presence in this queue is to be tested
+	 * @return {@code true} if this queue contains the specified element;
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if {@code toFind} is {@code null}
+	 */
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+		return search(toFind) != -1;
+	}
+
+	/**
+	 * Returns the 1-based position of the specified object in this queue, starting
+	 * from the front.
+	 *
+	 * @param toFind the desired object
+	 * @return the 1-based position from the front, or {@code -1} if not found
+	 */
+	@Override
+	public int search(E toFind) {
+		if (toFind == null) {
+			return -1;
+		}
+		int position = 1;
+		for (Node<E> current = head.get().next; current != null; current = current.next) {
+			E data = current.data;
+			if (data != null) {
+				if (toFind.equals(data)) {
+					return position;
+				}
+				position++;
+			}
+		}
+		return -1;
+	}
+
+	// ========== Array Conversion ==========
+
+	/**
+	 * Returns an array containing all of the elements in this queue from front to
+	 * rear.
+	 *
+	 * @return an array containing all elements from front to rear
+	 */
+	@Override
+	public Object[] toArray() {
+		Object[] result = new Object[16];
+		int count = 0;
+		for (Node<E> current = head.get().next; current != null; current = current.next) {
+			E data = current.data;
+			if (data != null) {
+				if (count == result.length) {
+					result = Arrays.copyOf(result, count << 1);
+				}
+				result[count++] = data;
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this queue from front to
+	 * rear; the runtime type of the returned array is that of the specified array.
+	 *
+	 * @param holder the array into which the elements of the queue are to be
+	 *               stored, if it is big enough; otherwise, a new array of the same
+	 *               runtime type is allocated for this purpose
+	 * @return an array containing the elements of this queue from front to rear
+	 * @throws NullPointerException if {@code holder} is {@code null}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+		if (holder == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+		Object[] snapshot = toArray();
+		int size = snapshot.length;
+		if (holder.length < size) {
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+		}
+		System.arraycopy(snapshot, 0, holder, 0, size);
+		if (holder.length > size) {
+			holder[size] = null;
+		}
+		return holder;
+	}
+
+	// ========== Iterator ==========
+
+	/**
+	 * Returns a weakly consistent iterator over the elements in this queue from
+	 * front to rear.
+	 *
+	 * @return an iterator from front to rear
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new LockFreeQueueIterator();
+	}
+
+	/**
+	 * Iterator that walks the chain, skipping nodes dequeued while it runs.
+	 */
+	private class LockFreeQueueIterator implements Iterator<E> {
+
+		/** The node holding the next element, or {@code null} at the end. */
+		private Node<E> current;
+
+		/** The element of {@link #current}, read once so it cannot vanish. */
+		private E nextData;
+
+		LockFreeQueueIterator() {
+			advance(head.get().next);
+		}
+
+		/** Moves to the first node from {@code node} onwards that holds data. */
+		private void advance(Node<E> node) {
+			while (node != null) {
+				E data = node.data;
+				if (data != null) {
+					current = node;
+					nextData = data;
+					return;
+				}
+				node = node.next;
+			}
+			current = null;
+			nextData = null;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public E next() throws NoSuchElementException {
+			if (current == null) {
+				throw new NoSuchElementException("No more elements in the queue");
+			}
+			E data = nextData;
+			advance(current.next);
+			return data;
+		}
+	}
+
+	// ========== Comparison ==========
+
+	/**
+	 * Compares this queue with another queue for equality. Two queues are
+	 * considered equal if they contain equal elements in the same order from front
+	 * to rear.
+	 *
+	 * @param that the queue to compare with
+	 * @return {@code true} if the queues are equal; {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(QueueADT<E> that) {
+		if (that == null) {
+			return false;
+		}
+		Object[] snapshot = toArray();
+		if (snapshot.length != that.size()) {
+			return false;
+		}
+		Iterator<E> thatIt = that.iterator();
+		for (Object element : snapshot) {
+			if (!thatIt.hasNext() || !element.equals(thatIt.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,325 @@
+package implementations;
+
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * {@code MyLockFreeStack} is a thread-safe, lock-free implementation of the
+ * {@link StackADT} interface (a Treiber stack).
+ *
+ * <p>
+ * The stack is a singly-linked chain of immutable nodes whose top is held in an
+ * {@link AtomicReference}. Push and pop build the new top and install it with a
+ * compare-and-set, retrying if another thread changed the top in between, so no
+ * thread ever blocks another. Each node also records the depth of the stack
+ * beneath it, so {@link #size()} is a single read.
+ * </p>
+ *
+ * <p>
+ * Because nodes never change once published, reading the top gives a
+ * consistent snapshot: {@link #iterator()}, {@link #toArray()},
+ * {@link #search(Object)} and the other read-only methods all work on the stack
+ * as it was at the moment they started, without copying and without being
+ * affected by concurrent pushes and pops.
+ * </p>
+ *
+ * @param <E> the type of elements stored in this stack
+ */
+public class MyLockFreeStack<E> implements StackADT<E> {
+
+	/**
+	 * An immutable stack node. Shared with {@link MyEliminationStack}, which
+	 * reuses this Treiber core through {@link #tryPush(Object)} and
+	 * {@link #tryPop()} and only changes how push and pop retry.
+	 */
+	static final class Node<E> {
+		final E data;
+		final Node<E> next;
+		/** Number of elements from this node to the bottom, inclusive. */
+		final int size;
+
+		Node(E data, Node<E> next) {
+			this.data = data;
+			this.next = next;
+			this.size = next == null ? 1 : next.size + 1;
+		}
+	}
+
+	/** The top node, or {@code null} if the stack is empty. */
+	final AtomicReference<Node<E>> top = new AtomicReference<>();
+
+	/**
+	 * Constructs an empty stack.
+	 */
+	public MyLockFreeStack() {
+	}
+
+	/**
+	 * Pushes an item onto the top of this stack.
+	 *
+	 * @param toAdd the item to be pushed
+	 * @throws NullPointerException if {@code toAdd} is {@code null}
+	 */
+	@Override
+	public void push(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot push null element");
+		}
+		while (!tryPush(toAdd)) {
+			// another thread changed the top; retry
+		}
+	}
+
+	/**
+	 * Makes one attempt to push {@code toAdd} onto the top of this stack.
+	 *
+	 * @param toAdd the item to be pushed, not {@code null}
+	 * @return {@code false} if another thread changed the top first
+	 */
+	protected boolean tryPush(E toAdd) {
+		Node<E> oldTop = top.get();
+		return top.compareAndSet(oldTop, new Node<>(toAdd, oldTop));
+	}
+
+	/**
+	 * Removes and returns the object at the top of this stack.
+	 *
+	 * @return the item popped off the top of this stack
+	 * @throws EmptyStackException if the stack is empty
+	 */
+	@Override
+	public E pop() throws EmptyStackException {
+		E popped;
+		while ((popped = tryPop()) == null) {
+			// another thread changed the top; retry
+		}
+		return popped;
+	}
+
+	/**
+	 * Makes one attempt to remove the object at the top of this stack.
+	 *
+	 * @return the item popped off the top of this stack, or {@code null} if
+	 *         another thread changed the top first
+	 * @throws EmptyStackException if the stack is empty
+	 */
+	protected E tryPop() throws EmptyStackException {
+		Node<E> oldTop = top.get();
+		if (oldTop == null) {
+			throw new EmptyStackException();
+		}
+		return top.compareAndSet(oldTop, oldTop.next) ? oldTop.data : null;
+	}
+
+	/**
+	 * Looks at the object at the top of this stack without removing it.
+	 *
+	 * @return the object at the top of this stack
+	 * @throws EmptyStackException if the stack is empty
+	 */
+	@Override
+	public E peek() throws EmptyStackException {
+		Node<E> current = top.get();
+		if (current == null) {
+			throw new EmptyStackException();
+		}
+		return current.data;
+	}
+
+	/**
+	 * Removes all of the elements from this stack in one atomic step.
+	 */
+	@Override
+	public void clear() {
+		top.set(null);
+	}
+
+	/**
+	 * Returns {@code true} if this stack contains no elements.
+	 *
+	 * @return {@code true} if this stack contains no elements; {@code false}
+	 *         otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return top.get() == null;
+	}
+
+	/**
+	 * Returns the number of elements in this stack.
+	 *
+	 * @return the number of elements in this stack
+	 */
+	@Override
+	public int size() {
+		Node<E> current = top.get();
+		return current == null ? 0 : current.size;
+	}
+
+	/**
+	 * Returns {@code true} if this stack contains the specified element.
+	 *
+	 * @param toFind the element whose presence in this stack is to be tested
+	 * @return {@code true} if this stack contains the specified element;
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if {@code toFind} is {@code null}
+	 */
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+		return search(toFind) != -1;
+	}
+
+	/**
+	 * Returns the 1-based position of an object in this stack. The top-most element
+	 * has position {@code 1}.
+	 *
+	 * @param toFind the desired object
+	 * @return the 1-based position from the top, or {@code -1} if not found
+	 */
+	@Override
+	public int search(E toFind) {
+		int position = 1;
+		for (Node<E> current = top.get(); current != null; current = current.next) {
+			if (current.data.equals(toFind)) {
+				return position;
+			}
+			position++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this stack, in proper
+	 * order from top to bottom.
+	 *
+	 * @return an array containing all elements from top to bottom
+	 */
+	@Override
+	public Object[] toArray() {
+		Node<E> snapshot = top.get();
+		Object[] array = new Object[snapshot == null ? 0 : snapshot.size];
+		int i = 0;
+		for (Node<E> current = snapshot; current != null; current = current.next) {
+			array[i++] = current.data;
+		}
+		return array;
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this stack in proper order
+	 * (from top to bottom); the runtime type of the returned array is that of the
+	 * specified array.
+	 *
+	 * @param holder the array into which the elements of the stack are to be
+	 *               stored, if it is big enough; otherwise, a new array of the same
+	 *               runtime type is allocated for this purpose
+	 * @return an array containing the elements of the stack from top to bottom
+	 * @throws NullPointerException if {@code holder} is {@code null}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+		if (holder == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+		Node<E> snapshot = top.get();
+		int size = snapshot == null ? 0 : snapshot.size;
+		if (holder.length < size) {
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+		}
+		int i = 0;
+		for (Node<E> current = snapshot; current != null; current = current.next) {
+			holder[i++] = current.data;
+		}
+		if (holder.length > size) {
+			holder[size] = null;
+		}
+		return holder;
+	}
+
+	/**
+	 * Returns an iterator over the elements in this stack from top to bottom, as
+	 * they were when this method was called.
+	 *
+	 * @return a snapshot iterator from top to bottom
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new SnapshotIterator<>(top.get());
+	}
+
+	/**
+	 * Iterator over an immutable chain of nodes. No copy is needed: later pushes
+	 * and pops install new tops and never change these nodes.
+	 */
+	private static final class SnapshotIterator<E> implements Iterator<E> {
+
+		/** The node holding the next element. */
+		private Node<E> current;
+
+		SnapshotIterator(Node<E> top) {
+			current = top;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public E next() throws NoSuchElementException {
+			if (current == null) {
+				throw new NoSuchElementException("No more elements");
+			}
+			E data = current.data;
+			current = current.next;
+			return data;
+		}
+	}
+
+	/**
+	 * Compares this stack with another stack for equality. Two stacks are
+	 * considered equal if they have the same size and contain equal elements in the
+	 * same order from top to bottom.
+	 *
+	 * @param that the stack to compare with
+	 * @return {@code true} if the stacks are equal; {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(StackADT<E> that) {
+		if (that == null) {
+			return false;
+		}
+		Node<E> snapshot = top.get();
+		if ((snapshot == null ? 0 : snapshot.size) != that.size()) {
+			return false;
+		}
+		Iterator<E> thatIt = that.iterator();
+		for (Node<E> current = snapshot; current != null; current = current.next) {
+			if (!thatIt.hasNext() || !current.data.equals(thatIt.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} if the stack is at capacity. A linked stack has no
+	 * fixed capacity, so this method always returns {@code false}.
+	 *
+	 * @return {@code false} because this stack has no fixed capacity
+	 */
+	@Override
+	public boolean stackOverflow() {
+		return false;
+	}
+}
@@ -0,0 +1,306 @@
+package implementations;
+
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * {@code MyPersistentStack} is an immutable stack whose versions share
+ * structure.
+ *
+ * <p>
+ * Each instance is one version of the stack and never changes. {@link #push}
+ * returns a new version with one more element on top, and {@link #pop} returns
+ * the version underneath. A new version shares every node of the one it was
+ * made from, so both calls run in constant time and allocate at most one node.
+ * Keeping an old version is therefore a constant-time snapshot, where copying a
+ * {@link MyStack} with {@code toArray} costs time and space proportional to its
+ * size.
+ * </p>
+ *
+ * <p>
+ * Nodes and versions have only final fields, so a version can be handed to
+ * other threads and read by any number of them at once without locking.
+ * </p>
+ *
+ * <p>
+ * The class offers the read operations of {@link StackADT}, but it does not
+ * implement that interface because {@code StackADT.push} and
+ * {@code StackADT.pop} change the stack in place.
+ * </p>
+ *
+ * @param <E> the type of elements stored in this stack
+ */
+public final class MyPersistentStack<E> {
+
+	/**
+	 * An immutable link in the chain from the top of a version to its bottom.
+	 */
+	private static final class Node<E> {
+		final E data;
+		final Node<E> next;
+
+		/** Number of nodes from this one to the bottom, inclusive. */
+		final int depth;
+
+		Node(E data, Node<E> next) {
+			this.data = data;
+			this.next = next;
+			this.depth = next == null ? 1 : next.depth + 1;
+		}
+	}
+
+	/** The single empty version, shared by every element type. */
+	private static final MyPersistentStack<?> EMPTY = new MyPersistentStack<>(null);
+
+	/** Top node of this version, or {@code null} if it is empty. */
+	private final Node<E> top;
+
+	private MyPersistentStack(Node<E> top) {
+		this.top = top;
+	}
+
+	/**
+	 * Returns the empty stack.
+	 *
+	 * @param <E> the type of elements stored in the stack
+	 * @return the empty stack
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> MyPersistentStack<E> empty() {
+		return (MyPersistentStack<E>) EMPTY;
+	}
+
+	/**
+	 * Returns a version of this stack with {@code toAdd} on top. This version is
+	 * not changed.
+	 *
+	 * @param toAdd the item to be pushed
+	 * @return the new version
+	 * @throws NullPointerException if {@code toAdd} is {@code null}
+	 */
+	public MyPersistentStack<E> push(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot push null element");
+		}
+		return new MyPersistentStack<>(new Node<>(toAdd, top));
+	}
+
+	/**
+	 * Returns the version of this stack without its top element. This version is
+	 * not changed; use {@link #peek()} to read the element being dropped.
+	 *
+	 * @return the version underneath this one
+	 * @throws EmptyStackException if the stack is empty
+	 */
+	public MyPersistentStack<E> pop() throws EmptyStackException {
+		if (top == null) {
+			throw new EmptyStackException();
+		}
+		return top.next == null ? MyPersistentStack.<E>empty() : new MyPersistentStack<>(top.next);
+	}
+
+	/**
+	 * Looks at the object at the top of this stack.
+	 *
+	 * @return the object at the top of this stack
+	 * @throws EmptyStackException if the stack is empty
+	 */
+	public E peek() throws EmptyStackException {
+		if (top == null) {
+			throw new EmptyStackException();
+		}
+		return top.data;
+	}
+
+	/**
+	 * Returns {@code true} if this stack contains no elements.
+	 *
+	 * @return {@code true} if this stack contains no elements; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return top == null;
+	}
+
+	/**
+	 * Returns the number of elements in this stack. This takes constant time.
+	 *
+	 * @return the number of elements in this stack
+	 */
+	public int size() {
+		return top == null ? 0 : top.depth;
+	}
+
+	/**
+	 * Returns {@code true} if this stack contains the specified element.
+	 *
+	 * @param toFind the element whose presence in this stack is to be tested
+	 * @return {@code true} if this stack contains the specified element;
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if {@code toFind} is {@code null}
+	 */
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+		return search(toFind) != -1;
+	}
+
+	/**
+	 * Returns the 1-based position of an object in this stack. The top-most element
+	 * has position {@code 1}.
+	 *
+	 * @param toFind the desired object
+	 * @return the 1-based position from the top, or {@code -1} if not found
+	 */
+	public int search(E toFind) {
+		int position = 1;
+		for (Node<E> node = top; node != null; node = node.next) {
+			if (node.data.equals(toFind)) {
+				return position;
+			}
+			position++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this stack, in proper
+	 * order from top to bottom.
+	 *
+	 * @return an array containing all elements from top to bottom
+	 */
+	public Object[] toArray() {
+		Object[] array = new Object[size()];
+		int i = 0;
+		for (Node<E> node = top; node != null; node = node.next) {
+			array[i++] = node.data;
+		}
+		return array;
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this stack in proper order
+	 * (from top to bottom); the runtime type of the returned array is that of the
+	 * specified array. If the stack fits in the specified array, it is returned
+	 * therein. Otherwise, a new array is allocated with the runtime type of the
+	 * specified array and the size of this stack.
+	 *
+	 * @param holder the array into which the elements of the stack are to be
+	 *               stored, if it is big enough; otherwise, a new array of the same
+	 *               runtime type is allocated for this purpose
+	 * @return an array containing the elements of the stack from top to bottom
+	 * @throws NullPointerException if {@code holder} is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+		if (holder == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+
+		int size = size();
+		if (holder.length < size) {
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+		}
+
+		int i = 0;
+		for (Node<E> node = top; node != null; node = node.next) {
+			holder[i++] = node.data;
+		}
+
+		if (holder.length > size) {
+			holder[size] = null;
+		}
+
+		return holder;
+	}
+
+	/**
+	 * Returns an iterator over the elements in this stack in proper sequence (from
+	 * top to bottom). The version cannot change, so the iterator never sees a
+	 * modification.
+	 *
+	 * @return an iterator over the elements in this stack from top to bottom
+	 */
+	public Iterator<E> iterator() {
+		return new PersistentStackIterator<>(top);
+	}
+
+	/**
+	 * Iterator that follows the node chain of one version from top to bottom.
+	 */
+	private static final class PersistentStackIterator<E> implements Iterator<E> {
+
+		/** The next node to return. */
+		private Node<E> current;
+
+		PersistentStackIterator(Node<E> top) {
+			current = top;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public E next() throws NoSuchElementException {
+			if (current == null) {
+				throw new NoSuchElementException("No more elements");
+			}
+			E element = current.data;
+			current = current.next;
+			return element;
+		}
+	}
+
+	/**
+	 * Compares this stack with a {@link StackADT} for equality. They are equal if
+	 * they have the same size and contain equal elements in the same order from
+	 * top to bottom.
+	 *
+	 * @param that the stack to compare with
+	 * @return {@code true} if the stacks are equal; {@code false} otherwise
+	 */
+	public boolean equals(StackADT<E> that) {
+		if (that == null || size() != that.size()) {
+			return false;
+		}
+		Iterator<E> thatIt = that.iterator();
+		for (Node<E> node = top; node != null; node = node.next) {
+			if (!node.data.equals(thatIt.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compares this stack with another version for equality. Versions that share
+	 * a node are equal from that node down, so the comparison stops as soon as
+	 * the two chains meet.
+	 *
+	 * @param that the stack to compare with
+	 * @return {@code true} if the stacks are equal; {@code false} otherwise
+	 */
+	public boolean equals(MyPersistentStack<E> that) {
+		if (that == null || size() != that.size()) {
+			return false;
+		}
+		Node<E> a = top;
+		Node<E> b = that.top;
+		while (a != b) {
+			if (!a.data.equals(b.data)) {
+				return false;
+			}
+			a = a.next;
+			b = b.next;
+		}
+		return true;
+	}
+}
@@ -1,7 +1,10 @@
 package implementations;
 
+import java.util.HashMap;
+
 import exceptions.EmptyQueueException;
 import utilities.Iterator;
+import utilities.ListADT;
 import utilities.QueueADT;
 
 /**
@@ -14,6 +17,12 @@ import utilities.QueueADT;
  * and the rear of the queue corresponds to index {@code size() - 1}.
  * </p>
  *
+ * <p>
+ * An <em>indexed</em> queue additionally keeps a count of each distinct element
+ * in a hash map, so {@link #contains(Object)} runs in constant time instead of
+ * scanning the queue. The index costs one map update per enqueue and dequeue.
+ * </p>
+ *
  * @param <E> the type of elements in this queue
  */
 public class MyQueue<E> implements QueueADT<E> {
@@ -24,6 +33,12 @@ public class MyQueue<E> implements QueueADT<E> {
 	 */
 	private MyDLL<E> list;
 
+	/**
+	 * Number of occurrences of each element in the queue, or {@code null} if
+	 * this queue is not indexed.
+	 */
+	private HashMap<E, Integer> counts;
+
 	/**
 	 * Constructs an empty queue.
 	 */
@@ -31,6 +46,46 @@ public class MyQueue<E> implements QueueADT<E> {
 		list = new MyDLL<>();
 	}
 
+	/**
+	 * Constructs an empty queue, optionally indexed for constant-time
+	 * {@link #contains(Object)}. To combine the index with a node pool, use
+	 * {@link #MyQueue(boolean, int)}.
+	 *
+	 * @param indexed {@code true} to maintain an element-to-count index
+	 */
+	public MyQueue(boolean indexed) {
+		this(indexed, 0);
+	}
+
+	/**
+	 * Constructs an empty queue whose underlying list recycles up to
+	 * {@code poolCapacity} dequeued nodes, so that a queue with steady churn
+	 * does not allocate a node per enqueue. To combine the pool with an index,
+	 * use {@link #MyQueue(boolean, int)}.
+	 *
+	 * @param poolCapacity the maximum number of spare nodes to keep
+	 * @throws IllegalArgumentException if {@code poolCapacity} is negative
+	 */
+	public MyQueue(int poolCapacity) {
+		this(false, poolCapacity);
+	}
+
+	/**
+	 * Constructs an empty queue that is optionally indexed and whose underlying
+	 * list recycles up to {@code poolCapacity} dequeued nodes. The two modes are
+	 * independent; a capacity of {@code 0} keeps no pool.
+	 *
+	 * @param indexed      {@code true} to maintain an element-to-count index
+	 * @param poolCapacity the maximum number of spare nodes to keep
+	 * @throws IllegalArgumentException if {@code poolCapacity} is negative
+	 */
+	public MyQueue(boolean indexed, int poolCapacity) {
+		list = new MyDLL<>(poolCapacity);
+		if (indexed) {
+			counts = new HashMap<>();
+		}
+	}
+
 	// ========== Core Queue Operations ==========
 
 	/**
@@ -46,6 +101,9 @@ public class MyQueue<E> implements QueueADT<E> {
 		}
 		// Add to the end of the list (rear of the queue)
 		list.add(toAdd);
+		if (counts != null) {
+			counts.merge(toAdd, 1, Integer::sum);
+		}
 	}
 
 	/**
@@ -60,7 +118,11 @@ public class MyQueue<E> implements QueueADT<E> {
 			throw new EmptyQueueException("Queue is empty");
 		}
 		// Remove from index 0 (front of the queue)
-		return list.remove(0);
+		E removed = list.remove(0);
+		if (counts != null) {
+			uncount(removed);
+		}
+		return removed;
 	}
 
 	/**
@@ -85,6 +147,91 @@ public class MyQueue<E> implements QueueADT<E> {
 	@Override
 	public void dequeueAll() {
 		list.clear();
+		if (counts != null) {
+			counts.clear();
+		}
+	}
+
+	// ========== Bulk Operations ==========
+
+	/**
+	 * Removes up to {@code max} items from the front of this queue and appends
+	 * them, in queue order, to {@code sink}.
+	 *
+	 * <p>
+	 * When {@code sink} is a {@link MyDLL} the items are not copied: the run of
+	 * nodes is unlinked from this queue and linked onto the end of the sink, so
+	 * draining the whole queue takes constant time. Other sinks receive the items
+	 * one at a time.
+	 * </p>
+	 *
+	 * @param sink the list to which the items are appended
+	 * @param max  the maximum number of items to move
+	 * @return the number of items moved
+	 * @throws NullPointerException     if {@code sink} is {@code null}
+	 * @throws IllegalArgumentException if {@code max} is negative
+	 */
+	public int drainTo(ListADT<? super E> sink, int max) throws NullPointerException {
+		if (sink == null) {
+			throw new NullPointerException("Cannot drain to null list");
+		}
+		if (max < 0) {
+			throw new IllegalArgumentException("max must be >= 0");
+		}
+		int count = Math.min(max, list.size());
+		if (sink instanceof MyDLL) {
+			// The sink is never this queue's own list and the range is valid, so
+			// the splice cannot fail and the index can be updated first
+			if (counts != null) {
+				Iterator<E> it = list.iterator();
+				for (int i = 0; i < count; i++) {
+					uncount(it.next());
+				}
+			}
+			((MyDLL<? super E>) sink).splice(list, 0, count);
+		} else {
+			// Each item leaves the queue only once the sink has accepted it, so a
+			// failing sink leaves the queue and its index in step
+			for (int i = 0; i < count; i++) {
+				E item = list.get(0);
+				sink.add(item);
+				list.remove(0);
+				if (counts != null) {
+					uncount(item);
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Adds every item of {@code toAdd} to the rear of this queue, in list order.
+	 * The source list is left unchanged.
+	 *
+	 * @param toAdd the list whose items are to be enqueued
+	 * @throws NullPointerException if {@code toAdd} is {@code null}
+	 */
+	public void enqueueAll(ListADT<? extends E> toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null list");
+		}
+		if (counts == null) {
+			list.addAll(toAdd);
+			return;
+		}
+		// Count each item as it is added, so a null item midway leaves the
+		// index matching what was enqueued
+		Iterator<? extends E> it = toAdd.iterator();
+		while (it.hasNext()) {
+			enqueue(it.next());
+		}
+	}
+
+	/**
+	 * Removes one occurrence of {@code item} from the index.
+	 */
+	private void uncount(E item) {
+		counts.computeIfPresent(item, (k, n) -> n == 1 ? null : n - 1);
 	}
 
 	// ========== Helper Methods ==========
@@ -112,7 +259,9 @@ public class MyQueue<E> implements QueueADT<E> {
 	// ========== Query Methods ==========
 
 	/**
-	 * Returns {@code true} if this queue contains the specified element.
+	 * Returns {@code true} if this queue contains the specified element. This
+	 * runs in constant time on an indexed queue and in a single front-to-rear
+	 * pass otherwise.
 	 *
 	 * @param toFind the element whose presence in this queue is to be tested
 	 * @return {@code true} if this queue contains the specified element;
@@ -124,6 +273,9 @@ public class MyQueue<E> implements QueueADT<E> {
 		if (toFind == null) {
 			throw new NullPointerException("Cannot search for null element");
 		}
+		if (counts != null) {
+			return counts.containsKey(toFind);
+		}
 		return list.contains(toFind);
 	}
 
@@ -132,7 +284,9 @@ public class MyQueue<E> implements QueueADT<E> {
 	 * from the front.
 	 *
 	 * <p>
-	 * The element at the front of the queue has position {@code 1}.
+	 * The element at the front of the queue has position {@code 1}. The list is
+	 * walked once with its iterator; an indexed queue returns {@code -1} without
+	 * walking when the element is absent.
 	 * </p>
 	 *
 	 * @param toFind the desired object
@@ -140,11 +294,16 @@ public class MyQueue<E> implements QueueADT<E> {
 	 */
 	@Override
 	public int search(E toFind) {
-		for (int i = 0; i < list.size(); i++) {
-			if (list.get(i).equals(toFind)) {
-				// Convert 0-based index to 1-based position
-				return i + 1;
+		if (toFind == null || (counts != null && !counts.containsKey(toFind))) {
+			return -1;
+		}
+		Iterator<E> it = list.iterator();
+		int position = 1;
+		while (it.hasNext()) {
+			if (toFind.equals(it.next())) {
+				return position;
 			}
+			position++;
 		}
 		return -1;
 	}
@@ -189,7 +348,8 @@ public class MyQueue<E> implements QueueADT<E> {
 
 	/**
 	 * Returns an iterator over the elements in this queue in proper sequence (from
-	 * front to rear).
+	 * front to rear). The iterator fails fast if the queue is modified after it
+	 * was created.
 	 *
 	 * @return an iterator from front to rear
 	 */
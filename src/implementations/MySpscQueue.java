@@ -0,0 +1,519 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.QueueADT;
+
+/**
+ * {@code MySpscQueue} is a bounded ring-buffer implementation of the
+ * {@link QueueADT} interface for exactly one producer thread and one consumer
+ * thread.
+ *
+ * <p>
+ * Elements live in an {@code Object[]} whose length is a power of two, indexed
+ * by two ever-increasing counters masked to the array length: the tail, written
+ * only by the producer, and the head, written only by the consumer. Because
+ * each counter has a single writer, no compare-and-set or lock is needed. An
+ * element is written with a plain store and then published by advancing the
+ * tail with {@link AtomicLongFieldUpdater#lazySet(Object, long)}, a release
+ * store that orders the element write before it without a full fence; the
+ * consumer frees a slot the same way. Each side also caches the last value it
+ * read of the other side's counter and only re-reads it when the cache says the
+ * queue is full (or empty).
+ * </p>
+ *
+ * <p>
+ * The two counters sit in separately allocated objects padded on both sides, so
+ * that the producer's and consumer's writes do not land on the same cache line
+ * as each other or as a neighbouring object.
+ * </p>
+ *
+ * <p>
+ * {@link #enqueue(Object)}, {@link #offer(Object)} and
+ * {@link #enqueueAll(ListADT)} may only be called from the producer thread, and
+ * {@link #dequeue()}, {@link #poll()}, {@link #peek()},
+ * {@link #drainTo(ListADT, int)} and {@link #dequeueAll()} only from the
+ * consumer thread. The read-only methods may be called from any thread and are
+ * weakly consistent.
+ * </p>
+ *
+ * @param <E> the type of elements in this queue
+ */
+public class MySpscQueue<E> implements QueueADT<E> {
+
+	/** Largest power of two that is a legal array length. */
+	private static final int MAX_ARRAY_LENGTH = 1 << 30;
+
+	/**
+	 * Padding laid out in front of a cursor's counter. The JVM places superclass
+	 * fields before subclass fields, so this layer keeps the counter off the cache
+	 * line holding the end of whatever object was allocated just before it, such
+	 * as the other cursor or the ring array.
+	 */
+	private static class CursorLhsPad {
+		long p01, p02, p03, p04, p05, p06, p07;
+	}
+
+	/**
+	 * The hot fields of a cursor. {@code cache} holds the owner's last read of the
+	 * other side's counter and is only ever touched by the owning thread.
+	 */
+	private static class CursorValue extends CursorLhsPad {
+		static final AtomicLongFieldUpdater<CursorValue> VALUE = AtomicLongFieldUpdater.newUpdater(CursorValue.class,
+				"value");
+
+		volatile long value;
+		long cache;
+	}
+
+	/**
+	 * A counter with a cache line of padding on both sides, so that the producer's
+	 * and consumer's writes never share a line with each other or with a
+	 * neighbouring object.
+	 */
+	private static final class Cursor extends CursorValue {
+		long p11, p12, p13, p14, p15, p16, p17;
+
+		long get() {
+			return value;
+		}
+
+		/**
+		 * Release store: orders the writes before it without a full fence.
+		 */
+		void lazySet(long newValue) {
+			VALUE.lazySet(this, newValue);
+		}
+	}
+
+	/** Ring storage; its length is a power of two. */
+	private final Object[] elements;
+
+	/** {@code elements.length - 1}, used to wrap counters into indices. */
+	private final int mask;
+
+	/** Maximum number of elements. */
+	private final int capacity;
+
+	/** Count of elements ever dequeued; written by the consumer. */
+	private final Cursor head = new Cursor();
+
+	/** Count of elements ever enqueued; written by the producer. */
+	private final Cursor tail = new Cursor();
+
+	/**
+	 * Constructs an empty queue that holds at most {@code capacity} elements.
+	 *
+	 * @param capacity the maximum number of elements
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 or
+	 *                                  greater than 2<sup>30</sup>
+	 */
+	public MySpscQueue(int capacity) {
+		if (capacity < 1 || capacity > MAX_ARRAY_LENGTH) {
+			throw new IllegalArgumentException("capacity must be between 1 and " + MAX_ARRAY_LENGTH);
+		}
+		int length = Integer.highestOneBit(capacity);
+		if (length < capacity) {
+			length <<= 1;
+		}
+		elements = new Object[length];
+		mask = length - 1;
+		this.capacity = capacity;
+	}
+
+	// ========== Core Queue Operations ==========
+
+	/**
+	 * Adds an item to the rear of this queue if there is room. Producer thread
+	 * only.
+	 *
+	 * @param toAdd the item to be added to the queue
+	 * @return {@code true} if the item was added, {@code false} if the queue is
+	 *         full
+	 * @throws NullPointerException if {@code toAdd} is {@code null}
+	 */
+	public boolean offer(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null element");
+		}
+		Cursor t = tail;
+		long index = t.get();
+		if (index - t.cache >= capacity) {
+			t.cache = head.get();
+			if (index - t.cache >= capacity) {
+				return false;
+			}
+		}
+		elements[(int) index & mask] = toAdd;
+		t.lazySet(index + 1);
+		return true;
+	}
+
+	/**
+	 * Adds an item to the rear of this queue. Producer thread only.
+	 *
+	 * @param toAdd the item to be added to the queue
+	 * @throws NullPointerException  if {@code toAdd} is {@code null}
+	 * @throws IllegalStateException if the queue is full
+	 */
+	@Override
+	public void enqueue(E toAdd) throws NullPointerException {
+		if (!offer(toAdd)) {
+			throw new IllegalStateException("Queue is full");
+		}
+	}
+
+	/**
+	 * Removes and returns the item at the front of this queue, or returns
+	 * {@code null} if it is empty. Consumer thread only.
+	 *
+	 * @return the item at the front of the queue, or {@code null} if empty
+	 */
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		Cursor h = head;
+		long index = h.get();
+		if (index >= h.cache) {
+			h.cache = tail.get();
+			if (index >= h.cache) {
+				return null;
+			}
+		}
+		int slot = (int) index & mask;
+		E element = (E) elements[slot];
+		elements[slot] = null;
+		h.lazySet(index + 1);
+		return element;
+	}
+
+	/**
+	 * Removes and returns the item at the front of the queue. Consumer thread
+	 * only.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws EmptyQueueException if the queue is empty
+	 */
+	@Override
+	public E dequeue() throws EmptyQueueException {
+		E element = poll();
+		if (element == null) {
+			throw new EmptyQueueException("Queue is empty");
+		}
+		return element;
+	}
+
+	/**
+	 * Returns the item at the front of the queue without removing it. Consumer
+	 * thread only.
+	 *
+	 * @return the item at the front of the queue
+	 * @throws EmptyQueueException if the queue is empty
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E peek() throws EmptyQueueException {
+		long index = head.get();
+		if (index >= tail.get()) {
+			throw new EmptyQueueException("Queue is empty");
+		}
+		return (E) elements[(int) index & mask];
+	}
+
+	/**
+	 * Removes every item the producer has published so far. Consumer thread
+	 * only.
+	 */
+	@Override
+	public void dequeueAll() {
+		long index = head.get();
+		long end = tail.get();
+		for (long i = index; i < end; i++) {
+			elements[(int) i & mask] = null;
+		}
+		head.cache = end;
+		head.lazySet(end);
+	}
+
+	// ========== Bulk Operations ==========
+
+	/**
+	 * Removes up to {@code max} items from the front of this queue and appends
+	 * them, in queue order, to {@code sink}. The head is published once for the
+	 * whole batch. Consumer thread only.
+	 *
+	 * @param sink the list to which the items are appended
+	 * @param max  the maximum number of items to move
+	 * @return the number of items moved
+	 * @throws NullPointerException     if {@code sink} is {@code null}
+	 * @throws IllegalArgumentException if {@code max} is negative
+	 */
+	@SuppressWarnings("unchecked")
+	public int drainTo(ListADT<? super E> sink, int max) throws NullPointerException {
+		if (sink == null) {
+			throw new NullPointerException("Cannot drain to null list");
+		}
+		if (max < 0) {
+			throw new IllegalArgumentException("max must be >= 0");
+		}
+		Cursor h = head;
+		long index = h.get();
+		h.cache = tail.get();
+		int n = (int) Math.min(max, h.cache - index);
+		int moved = 0;
+		try {
+			while (moved < n) {
+				int slot = (int) (index + moved) & mask;
+				sink.add((E) elements[slot]);
+				elements[slot] = null;
+				moved++;
+			}
+		} finally {
+			// Release whatever reached the sink even if a later add failed
+			h.lazySet(index + moved);
+		}
+		return moved;
+	}
+
+	/**
+	 * Adds every item of {@code toAdd} to the rear of this queue, in list order.
+	 * The tail is published once for the whole batch, so the consumer sees all
+	 * of the items at once. If they do not all fit, nothing is added. Producer
+	 * thread only.
+	 *
+	 * @param toAdd the list whose items are to be enqueued
+	 * @throws NullPointerException  if {@code toAdd} or any of its items is
+	 *                               {@code null}
+	 * @throws IllegalStateException if the items do not fit
+	 */
+	public void enqueueAll(ListADT<? extends E> toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot enqueue null list");
+		}
+		int n = toAdd.size();
+		Cursor t = tail;
+		long index = t.get();
+		if (index + n - t.cache > capacity) {
+			t.cache = head.get();
+			if (index + n - t.cache > capacity) {
+				throw new IllegalStateException("Queue is full");
+			}
+		}
+		Iterator<? extends E> it = toAdd.iterator();
+		for (int i = 0; i < n; i++) {
+			E element = it.next();
+			if (element == null) {
+				// Undo the unpublished writes so the slots stay clear
+				for (int j = 0; j < i; j++) {
+					elements[(int) (index + j) & mask] = null;
+				}
+				throw new NullPointerException("Cannot enqueue null element");
+			}
+			elements[(int) (index + i) & mask] = element;
+		}
+		t.lazySet(index + n);
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * Returns {@code true} if this queue contains no elements.
+	 *
+	 * @return {@code true} if this queue is empty; {@code false} otherwise
+	 */
+	@Override
+	public boolean isEmpty() {
+		return head.get() >= tail.get();
+	}
+
+	/**
+	 * Returns the number of elements in this queue.
+	 *
+	 * @return the current size of the queue
+	 */
+	@Override
+	public int size() {
+		// Read the head first: the tail can only have grown since
+		long h = head.get();
+		long t = tail.get();
+		return (int) Math.min(t - h, capacity);
+	}
+
+	/**
+	 * Returns {@code true} if this queue holds as many elements as its capacity.
+	 *
+	 * @return {@code true} if the queue is at capacity
+	 */
+	@Override
+	public boolean isFull() {
+		return size() == capacity;
+	}
+
+	// ========== Query Methods ==========
+
+	/**
+	 * Returns {@code true} if this queue contains the specified element.
+	 *
+	 * @param toFind the element whose presence in this queue is to be tested
+	 * @return {@code true} if this queue contains the specified element;
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if {@code toFind} is {@code null}
+	 */
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+		return search(toFind) != -1;
+	}
+
+	/**
+	 * Returns the 1-based position of the specified object in this queue, starting
+	 * from the front.
+	 *
+	 * @param toFind the desired object
+	 * @return the 1-based position from the front, or {@code -1} if not found
+	 */
+	@Override
+	public int search(E toFind) {
+		if (toFind == null) {
+			return -1;
+		}
+		Object[] snapshot = toArray();
+		for (int i = 0; i < snapshot.length; i++) {
+			if (toFind.equals(snapshot[i])) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	// ========== Array Conversion ==========
+
+	/**
+	 * Returns an array containing all of the elements in this queue from front to
+	 * rear. Elements dequeued while the copy is made are left out.
+	 *
+	 * @return an array containing all elements from front to rear
+	 */
+	@Override
+	public Object[] toArray() {
+		long h = head.get();
+		long t = tail.get();
+		Object[] result = new Object[(int) Math.min(t - h, capacity)];
+		int count = 0;
+		for (long i = h; i < t && count < result.length; i++) {
+			Object element = elements[(int) i & mask];
+			if (element != null) {
+				result[count++] = element;
+			}
+		}
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Returns an array containing all of the elements in this queue from front to
+	 * rear; the runtime type of the returned array is that of the specified array.
+	 *
+	 * @param holder the array into which the elements of the queue are to be
+	 *               stored, if it is big enough; otherwise, a new array of the same
+	 *               runtime type is allocated for this purpose
+	 * @return an array containing the elements of this queue from front to rear
+	 * @throws NullPointerException if {@code holder} is {@code null}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+		if (holder == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+		Object[] snapshot = toArray();
+		int size = snapshot.length;
+		if (holder.length < size) {
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+		}
+		System.arraycopy(snapshot, 0, holder, 0, size);
+		if (holder.length > size) {
+			holder[size] = null;
+		}
+		return holder;
+	}
+
+	// ========== Iterator ==========
+
+	/**
+	 * Returns an iterator over the elements in this queue from front to rear, as
+	 * they were when this method was called.
+	 *
+	 * @return an iterator from front to rear
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new SnapshotIterator<>(toArray());
+	}
+
+	/**
+	 * Iterator over a copy of the queue, so that the consumer can keep dequeuing
+	 * while it runs.
+	 */
+	private static final class SnapshotIterator<E> implements Iterator<E> {
+
+		/** The elements from front to rear. */
+		private final Object[] snapshot;
+
+		/** Index of the next element to return. */
+		private int index;
+
+		SnapshotIterator(Object[] snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return index < snapshot.length;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements in the queue");
+			}
+			return (E) snapshot[index++];
+		}
+	}
+
+	// ========== Comparison ==========
+
+	/**
+	 * Compares this queue with another queue for equality. Two queues are
+	 * considered equal if they contain equal elements in the same order from front
+	 * to rear.
+	 *
+	 * @param that the queue to compare with
+	 * @return {@code true} if the queues are equal; {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(QueueADT<E> that) {
+		if (that == null) {
+			return false;
+		}
+		Object[] snapshot = toArray();
+		if (snapshot.length != that.size()) {
+			return false;
+		}
+		Iterator<E> thatIt = that.iterator();
+		for (Object element : snapshot) {
+			if (!thatIt.hasNext() || !element.equals(thatIt.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -1,6 +1,9 @@
 package implementations;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.EmptyStackException;
+import java.util.HashMap;
 
 import utilities.Iterator;
 import utilities.StackADT;
@@ -10,39 +13,142 @@ import utilities.StackADT;
  * interface.
  *
  * <p>
- * The top of the stack is stored at the end of the underlying
- * {@link MyArrayList}.
+ * Elements live in an {@code Object[]} owned by the stack, bottom first, and
+ * {@code top} counts them, so the top element is {@code elements[top - 1]}.
+ * Push and pop touch only that slot and the counter.
+ * </p>
+ *
+ * <p>
+ * A stack built with {@link #MyStack()} grows its array as needed and never
+ * overflows. A stack built with {@link #MyStack(int)} or
+ * {@link #MyStack(boolean, int)} has a fixed capacity: {@link #stackOverflow()}
+ * returns {@code true} once it is full, and further pushes are rejected.
+ * </p>
+ *
+ * <p>
+ * An <em>indexed</em> stack additionally maps each distinct element to the
+ * array positions it occupies, in a hash map of {@link IntStack}s. The last
+ * position pushed for an element is its nearest to the top, so
+ * {@link #contains(Object)} and {@link #search(Object)} run in constant time
+ * instead of scanning the stack. The index costs one map update per push and
+ * pop. Indexing and a fixed capacity can be combined.
+ * </p>
  *
  * @param <E> the type of elements stored in this stack
  */
 public class MyStack<E> implements StackADT<E> {
 
+	/** Initial array length of an unbounded stack. */
+	private static final int DEFAULT_CAPACITY = 10;
+
+	/** Element storage; the bottom of the stack is at index {@code 0}. */
+	private Object[] elements;
+
+	/** Number of elements, which is also the index of the next free slot. */
+	private int top;
+
+	/** Maximum number of elements, or {@code -1} if the stack is unbounded. */
+	private final int capacity;
+
+	/** Number of pushes, pops and clears, checked by iterators to fail fast. */
+	private int modCount;
+
 	/**
-	 * Underlying dynamic array list used to store stack elements. The logical top
-	 * of the stack is at index {@code list.size() - 1}.
+	 * Array positions of each element, nearest to the top last, or {@code null}
+	 * if this stack is not indexed.
 	 */
-	private MyArrayList<E> list;
+	private HashMap<E, IntStack> positions;
 
 	/**
 	 * Constructs an empty stack.
 	 */
 	public MyStack() {
-		list = new MyArrayList<>();
+		elements = new Object[DEFAULT_CAPACITY];
+		capacity = -1;
+	}
+
+	/**
+	 * Constructs an empty unbounded stack, optionally indexed for constant-time
+	 * {@link #contains(Object)} and {@link #search(Object)}. For an indexed stack
+	 * with a fixed capacity, use {@link #MyStack(boolean, int)}.
+	 *
+	 * @param indexed {@code true} to maintain an element-to-positions index
+	 */
+	public MyStack(boolean indexed) {
+		this();
+		if (indexed) {
+			positions = new HashMap<>();
+		}
+	}
+
+	/**
+	 * Constructs an empty stack that holds at most {@code capacity} elements.
+	 * For a bounded stack that is also indexed, use
+	 * {@link #MyStack(boolean, int)}.
+	 *
+	 * @param capacity the maximum number of elements
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1
+	 */
+	public MyStack(int capacity) {
+		this(false, capacity);
+	}
+
+	/**
+	 * Constructs an empty stack that holds at most {@code capacity} elements and
+	 * is optionally indexed for constant-time {@link #contains(Object)} and
+	 * {@link #search(Object)}. The two modes are independent.
+	 *
+	 * @param indexed  {@code true} to maintain an element-to-positions index
+	 * @param capacity the maximum number of elements
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1
+	 */
+	public MyStack(boolean indexed, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be >= 1");
+		}
+		elements = new Object[capacity];
+		this.capacity = capacity;
+		if (indexed) {
+			positions = new HashMap<>();
+		}
+	}
+
+	/**
+	 * Doubles the array of an unbounded stack that is out of room.
+	 */
+	private void grow() {
+		elements = Arrays.copyOf(elements, elements.length * 2 + 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private E elementAt(int index) {
+		return (E) elements[index];
 	}
 
 	/**
 	 * Pushes an item onto the top of this stack.
 	 *
 	 * @param toAdd the item to be pushed
-	 * @throws NullPointerException if {@code toAdd} is {@code null}
+	 * @throws NullPointerException  if {@code toAdd} is {@code null}
+	 * @throws IllegalStateException if this stack has a fixed capacity and is
+	 *                               full
 	 */
 	@Override
 	public void push(E toAdd) throws NullPointerException {
 		if (toAdd == null) {
 			throw new NullPointerException("Cannot push null element");
 		}
-		// Add to the end, which represents the top of the stack
-		list.add(toAdd);
+		if (top == elements.length) {
+			if (capacity >= 0) {
+				throw new IllegalStateException("Stack is full");
+			}
+			grow();
+		}
+		if (positions != null) {
+			positions.computeIfAbsent(toAdd, k -> new IntStack(1)).push(top);
+		}
+		elements[top++] = toAdd;
+		modCount++;
 	}
 
 	/**
@@ -53,10 +159,20 @@ public class MyStack<E> implements StackADT<E> {
 	 */
 	@Override
 	public E pop() throws EmptyStackException {
-		if (isEmpty()) {
+		if (top == 0) {
 			throw new EmptyStackException();
 		}
-		return list.remove(list.size() - 1);
+		E element = elementAt(--top);
+		elements[top] = null;
+		modCount++;
+		if (positions != null) {
+			IntStack at = positions.get(element);
+			at.pop();
+			if (at.isEmpty()) {
+				positions.remove(element);
+			}
+		}
+		return element;
 	}
 
 	/**
@@ -67,10 +183,10 @@ public class MyStack<E> implements StackADT<E> {
 	 */
 	@Override
 	public E peek() throws EmptyStackException {
-		if (isEmpty()) {
+		if (top == 0) {
 			throw new EmptyStackException();
 		}
-		return list.get(list.size() - 1);
+		return elementAt(top - 1);
 	}
 
 	/**
@@ -79,7 +195,12 @@ public class MyStack<E> implements StackADT<E> {
 	 */
 	@Override
 	public void clear() {
-		list.clear();
+		Arrays.fill(elements, 0, top, null);
+		top = 0;
+		modCount++;
+		if (positions != null) {
+			positions.clear();
+		}
 	}
 
 	/**
@@ -90,7 +211,7 @@ public class MyStack<E> implements StackADT<E> {
 	 */
 	@Override
 	public boolean isEmpty() {
-		return list.isEmpty();
+		return top == 0;
 	}
 
 	/**
@@ -100,11 +221,12 @@ public class MyStack<E> implements StackADT<E> {
 	 */
 	@Override
 	public int size() {
-		return list.size();
+		return top;
 	}
 
 	/**
-	 * Returns {@code true} if this stack contains the specified element.
+	 * Returns {@code true} if this stack contains the specified element. This
+	 * runs in constant time on an indexed stack.
 	 *
 	 * @param toFind the element whose presence in this stack is to be tested
 	 * @return {@code true} if this stack contains the specified element;
@@ -116,22 +238,34 @@ public class MyStack<E> implements StackADT<E> {
 		if (toFind == null) {
 			throw new NullPointerException("Cannot search for null element");
 		}
-		return list.contains(toFind);
+		if (positions != null) {
+			return positions.containsKey(toFind);
+		}
+		for (int i = 0; i < top; i++) {
+			if (elements[i].equals(toFind)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
 	 * Returns the 1-based position of an object in this stack. The top-most element
-	 * has position {@code 1}.
+	 * has position {@code 1}. This runs in constant time on an indexed stack.
 	 *
 	 * @param toFind the desired object
 	 * @return the 1-based position from the top, or {@code -1} if not found
 	 */
 	@Override
 	public int search(E toFind) {
-		for (int i = list.size() - 1; i >= 0; i--) {
-			if (list.get(i).equals(toFind)) {
-				// position from the top (top is index list.size() - 1)
-				return list.size() - i;
+		if (positions != null) {
+			IntStack at = toFind == null ? null : positions.get(toFind);
+			return at == null ? -1 : top - at.peek();
+		}
+		for (int i = top - 1; i >= 0; i--) {
+			if (elements[i].equals(toFind)) {
+				// position from the top (top is index top - 1)
+				return top - i;
 			}
 		}
 		return -1;
@@ -145,11 +279,11 @@ public class MyStack<E> implements StackADT<E> {
 	 */
 	@Override
 	public Object[] toArray() {
-		Object[] array = new Object[list.size()];
+		Object[] array = new Object[top];
 
-		// Copy from top (end of list) to bottom (beginning of list)
-		for (int i = 0; i < list.size(); i++) {
-			array[i] = list.get(list.size() - 1 - i);
+		// Copy from top (end of array) to bottom (beginning of array)
+		for (int i = 0; i < top; i++) {
+			array[i] = elements[top - 1 - i];
 		}
 
 		return array;
@@ -175,15 +309,15 @@ public class MyStack<E> implements StackADT<E> {
 			throw new NullPointerException("Array cannot be null");
 		}
 
-		int size = list.size();
+		int size = top;
 
 		if (holder.length < size) {
 			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
 		}
 
-		// Copy from top (end of list) to bottom (beginning of list)
+		// Copy from top (end of array) to bottom (beginning of array)
 		for (int i = 0; i < size; i++) {
-			holder[i] = list.get(size - 1 - i);
+			holder[i] = elementAt(size - 1 - i);
 		}
 
 		// If the array is larger than the number of elements, set element after
@@ -208,12 +342,16 @@ public class MyStack<E> implements StackADT<E> {
 
 	/**
 	 * Iterator implementation for {@link MyStack} that traverses the elements from
-	 * top to bottom.
+	 * top to bottom. It fails fast if the stack is pushed, popped or cleared after
+	 * the iterator was created.
 	 */
 	private class StackIterator implements Iterator<E> {
 
+		/** The stack's modification count when this iterator was created. */
+		private final int expectedModCount = modCount;
+
 		/**
-		 * Current index in the underlying list. Starts at the top of the stack.
+		 * Current index in the underlying array. Starts at the top of the stack.
 		 */
 		private int currentIndex;
 
@@ -221,7 +359,7 @@ public class MyStack<E> implements StackADT<E> {
 		 * Constructs an iterator starting at the top of the stack.
 		 */
 		public StackIterator() {
-			currentIndex = list.size() - 1;
+			currentIndex = top - 1;
 		}
 
 		/**
@@ -241,13 +379,18 @@ public class MyStack<E> implements StackADT<E> {
 		 * @return the next element in the iteration
 		 * @throws java.util.NoSuchElementException if the iteration has no more
 		 *                                          elements
+		 * @throws ConcurrentModificationException  if the stack was modified after
+		 *                                          the iterator was created
 		 */
 		@Override
 		public E next() throws java.util.NoSuchElementException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
 			if (!hasNext()) {
 				throw new java.util.NoSuchElementException("No more elements");
 			}
-			E element = list.get(currentIndex);
+			E element = elementAt(currentIndex);
 			currentIndex--;
 			return element;
 		}
@@ -295,13 +438,13 @@ public class MyStack<E> implements StackADT<E> {
 	/**
 	 * Returns {@code true} if the stack is at capacity.
 	 * <p>
-	 * For this dynamic array implementation, the stack has no fixed capacity limit,
-	 * so this method always returns {@code false}.
+	 * A stack built without a capacity grows as needed, so for it this method
+	 * always returns {@code false}.
 	 *
-	 * @return {@code false} because this stack has no fixed capacity
+	 * @return {@code true} if this stack has a fixed capacity and is full
 	 */
 	@Override
 	public boolean stackOverflow() {
-		return false;
+		return top == capacity;
 	}
 }
@@ -0,0 +1,419 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Unrolled linked list implementation of the ListADT interface.
+ *
+ * <p>
+ * Each node of the doubly-linked chain holds a small array of up to
+ * {@code nodeCapacity} elements (64 by default) instead of a single element.
+ * Compared with {@link MyDLL} this cuts the per-element overhead to a fraction
+ * of a node, keeps neighbouring elements together in memory, and lets
+ * positional lookups skip whole nodes. Compared with {@link MyArrayList}, an
+ * insert or removal in the middle only shifts the elements of one node.
+ * </p>
+ *
+ * <p>
+ * A full node is split in two on insert. After a removal, a node left less than
+ * half full is merged with its successor when the two fit in one node, so nodes
+ * stay at least half full on average.
+ * </p>
+ *
+ * @param <E> the type of elements stored in this list
+ */
+public class MyUnrolledList<E> implements ListADT<E> {
+
+	/** Default number of elements per node. */
+	public static final int DEFAULT_NODE_CAPACITY = 64;
+
+	/**
+	 * A node holding up to {@code items.length} consecutive elements in
+	 * {@code items[0..count)}.
+	 */
+	private static final class Node<E> {
+		final Object[] items;
+		int count;
+		Node<E> prev;
+		Node<E> next;
+
+		Node(int capacity) {
+			items = new Object[capacity];
+		}
+	}
+
+	/** Maximum number of elements per node. */
+	private final int nodeCapacity;
+
+	/** First node in the chain, or {@code null} if the list is empty. */
+	private Node<E> head;
+
+	/** Last node in the chain, or {@code null} if the list is empty. */
+	private Node<E> tail;
+
+	/** Number of elements currently stored in the list. */
+	private int size;
+
+	/** Number of structural changes, checked by iterators to fail fast. */
+	private int modCount;
+
+	/**
+	 * Offset within the node returned by the last call to {@link #nodeFor(int)}.
+	 * Kept in a field so that locating an element allocates nothing.
+	 */
+	private int offset;
+
+	/**
+	 * Constructs an empty list with {@link #DEFAULT_NODE_CAPACITY} elements per
+	 * node.
+	 */
+	public MyUnrolledList() {
+		this(DEFAULT_NODE_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty list with the given number of elements per node.
+	 *
+	 * @param nodeCapacity the maximum number of elements per node
+	 * @throws IllegalArgumentException if {@code nodeCapacity} is less than 2
+	 */
+	public MyUnrolledList(int nodeCapacity) {
+		if (nodeCapacity < 2) {
+			throw new IllegalArgumentException("nodeCapacity must be >= 2");
+		}
+		this.nodeCapacity = nodeCapacity;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void clear() {
+		Node<E> current = head;
+		while (current != null) {
+			Node<E> next = current.next;
+			current.prev = null;
+			current.next = null;
+			current = next;
+		}
+		head = null;
+		tail = null;
+		size = 0;
+		modCount++;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean add(E toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+		if (tail == null || tail.count == nodeCapacity) {
+			linkAfter(tail, new Node<E>(nodeCapacity));
+		}
+		tail.items[tail.count++] = toAdd;
+		size++;
+		modCount++;
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null element");
+		}
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (index == size) {
+			return add(toAdd);
+		}
+
+		Node<E> node = nodeFor(index);
+		int at = offset;
+		if (node.count == nodeCapacity) {
+			// Split: move the upper half into a new node after this one
+			Node<E> upper = new Node<E>(nodeCapacity);
+			int half = nodeCapacity / 2;
+			int moved = node.count - half;
+			System.arraycopy(node.items, half, upper.items, 0, moved);
+			Arrays.fill(node.items, half, node.count, null);
+			upper.count = moved;
+			node.count = half;
+			linkAfter(node, upper);
+			if (at > half) {
+				node = upper;
+				at -= half;
+			}
+		}
+		System.arraycopy(node.items, at, node.items, at + 1, node.count - at);
+		node.items[at] = toAdd;
+		node.count++;
+		size++;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Returns the node holding the element at {@code index} and stores the
+	 * element's position within that node in {@link #offset}. Whole nodes are
+	 * skipped, starting from whichever end is closer.
+	 *
+	 * @param index the index of the element, which must be in range
+	 * @return the node holding the element
+	 */
+	private Node<E> nodeFor(int index) {
+		Node<E> current;
+		if (index < size / 2) {
+			current = head;
+			while (index >= current.count) {
+				index -= current.count;
+				current = current.next;
+			}
+		} else {
+			current = tail;
+			int fromEnd = size - 1 - index;
+			while (fromEnd >= current.count) {
+				fromEnd -= current.count;
+				current = current.prev;
+			}
+			index = current.count - 1 - fromEnd;
+		}
+		offset = index;
+		return current;
+	}
+
+	private void rangeCheck(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) throws IndexOutOfBoundsException {
+		rangeCheck(index);
+		Node<E> node = nodeFor(index);
+		return (E) node.items[offset];
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+		if (toChange == null) {
+			throw new NullPointerException("Cannot set null element");
+		}
+		rangeCheck(index);
+		Node<E> node = nodeFor(index);
+		E oldData = (E) node.items[offset];
+		node.items[offset] = toChange;
+		return oldData;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E remove(int index) throws IndexOutOfBoundsException {
+		rangeCheck(index);
+		Node<E> node = nodeFor(index);
+		return removeAt(node, offset);
+	}
+
+	/**
+	 * Removes the element at {@code at} within {@code node}, then unlinks the node
+	 * if it is empty or merges its successor into it if both fit in one node.
+	 */
+	@SuppressWarnings("unchecked")
+	private E removeAt(Node<E> node, int at) {
+		E removedData = (E) node.items[at];
+		System.arraycopy(node.items, at + 1, node.items, at, node.count - at - 1);
+		node.items[--node.count] = null;
+		size--;
+		modCount++;
+
+		if (node.count == 0) {
+			unlink(node);
+		} else if (node.count < nodeCapacity / 2 && node.next != null
+				&& node.count + node.next.count <= nodeCapacity) {
+			Node<E> next = node.next;
+			System.arraycopy(next.items, 0, node.items, node.count, next.count);
+			node.count += next.count;
+			unlink(next);
+		}
+		return removedData;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public E remove(E toRemove) throws NullPointerException {
+		if (toRemove == null) {
+			throw new NullPointerException("Cannot remove null element");
+		}
+		for (Node<E> node = head; node != null; node = node.next) {
+			for (int i = 0; i < node.count; i++) {
+				if (toRemove.equals(node.items[i])) {
+					return removeAt(node, i);
+				}
+			}
+		}
+		return null;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+		if (toFind == null) {
+			throw new NullPointerException("Cannot search for null element");
+		}
+		for (Node<E> node = head; node != null; node = node.next) {
+			for (int i = 0; i < node.count; i++) {
+				if (toFind.equals(node.items[i])) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+		if (toAdd == null) {
+			throw new NullPointerException("Cannot add null list");
+		}
+		Iterator<? extends E> it = toAdd.iterator();
+		while (it.hasNext()) {
+			add(it.next());
+		}
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		copyTo(result);
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] toHold) throws NullPointerException {
+		if (toHold == null) {
+			throw new NullPointerException("Array cannot be null");
+		}
+		if (toHold.length < size) {
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+		}
+		copyTo(toHold);
+		if (toHold.length > size) {
+			toHold[size] = null;
+		}
+		return toHold;
+	}
+
+	/** Copies the elements in order, one array copy per node. */
+	private void copyTo(Object[] dest) {
+		int index = 0;
+		for (Node<E> node = head; node != null; node = node.next) {
+			System.arraycopy(node.items, 0, dest, index, node.count);
+			index += node.count;
+		}
+	}
+
+	/** Inserts {@code node} after {@code before}, or at the head if it is null. */
+	private void linkAfter(Node<E> before, Node<E> node) {
+		node.prev = before;
+		if (before == null) {
+			node.next = head;
+			head = node;
+		} else {
+			node.next = before.next;
+			before.next = node;
+		}
+		if (node.next == null) {
+			tail = node;
+		} else {
+			node.next.prev = node;
+		}
+	}
+
+	private void unlink(Node<E> node) {
+		if (node.prev == null) {
+			head = node.next;
+		} else {
+			node.prev.next = node.next;
+		}
+		if (node.next == null) {
+			tail = node.prev;
+		} else {
+			node.next.prev = node.prev;
+		}
+		node.prev = null;
+		node.next = null;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Iterator<E> iterator() {
+		return new UnrolledIterator();
+	}
+
+	/**
+	 * Iterator that walks each node's array in turn. It fails fast if the list
+	 * is structurally modified after the iterator was created.
+	 */
+	private class UnrolledIterator implements Iterator<E> {
+
+		/** The list's modification count when this iterator was created. */
+		private final int expectedModCount = modCount;
+
+		/** The node holding the next element. */
+		private Node<E> current = head;
+
+		/** Position of the next element within {@link #current}. */
+		private int index;
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean hasNext() {
+			return current != null && index < current.count;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			E data = (E) current.items[index++];
+			if (index == current.count) {
+				current = current.next;
+				index = 0;
+			}
+			return data;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package parser;
+
+import java.util.Arrays;
+
+import implementations.MyArrayList;
+import utilities.Iterator;
+
+/**
+ * Merged outcome of validating many files: one {@link ParseResult} per file, in
+ * path order, plus per-file latency percentiles and the aggregate throughput.
+ */
+public class BatchReport {
+
+	/** Per-file results, sorted by path. */
+	private final MyArrayList<ParseResult> results;
+
+	/** Per-file validation times, sorted ascending. */
+	private final long[] sortedLatencies;
+
+	/** Wall-clock time for the whole batch, in nanoseconds. */
+	private final long wallNanos;
+
+	/** Sum of the sizes of all files. */
+	private final long totalBytes;
+
+	/**
+	 * Constructs a report.
+	 *
+	 * @param results   the per-file results, in the order they should be reported
+	 * @param wallNanos the wall-clock time for the whole batch, in nanoseconds
+	 */
+	public BatchReport(MyArrayList<ParseResult> results, long wallNanos) {
+		this.results = results;
+		this.wallNanos = wallNanos;
+
+		sortedLatencies = new long[results.size()];
+		long bytes = 0;
+		for (int i = 0; i < results.size(); i++) {
+			ParseResult result = results.get(i);
+			sortedLatencies[i] = result.getElapsedNanos();
+			bytes += result.getBytes();
+		}
+		Arrays.sort(sortedLatencies);
+		totalBytes = bytes;
+	}
+
+	/**
+	 * Returns the per-file results in path order.
+	 *
+	 * @return the results
+	 */
+	public MyArrayList<ParseResult> getResults() {
+		return results;
+	}
+
+	/**
+	 * Returns the number of files that are not well formed.
+	 *
+	 * @return the count of failing files
+	 */
+	public int getFailureCount() {
+		int failures = 0;
+		Iterator<ParseResult> it = results.iterator();
+		while (it.hasNext()) {
+			if (!it.next().isWellFormed()) {
+				failures++;
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Returns the wall-clock time for the whole batch.
+	 *
+	 * @return the elapsed time in nanoseconds
+	 */
+	public long getWallNanos() {
+		return wallNanos;
+	}
+
+	/**
+	 * Returns the aggregate throughput: the total size of all files divided by
+	 * the wall-clock time of the batch.
+	 *
+	 * @return the throughput in megabytes (2^20 bytes) per second
+	 */
+	public double getThroughputMBps() {
+		if (wallNanos <= 0) {
+			return 0.0;
+		}
+		return (totalBytes / (1024.0 * 1024.0)) / (wallNanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * Returns a per-file latency percentile using the nearest-rank method.
+	 *
+	 * @param percentile the percentile, from {@code 0} to {@code 100}
+	 * @return the latency in nanoseconds, or {@code 0} if the batch is empty
+	 * @throws IllegalArgumentException if {@code percentile} is out of range
+	 */
+	public long getLatencyPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("percentile must be between 0 and 100");
+		}
+		if (sortedLatencies.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+		return sortedLatencies[Math.max(rank, 1) - 1];
+	}
+
+	/**
+	 * Returns the report of every file followed by a summary of the batch.
+	 *
+	 * @return a printable report
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		Iterator<ParseResult> it = results.iterator();
+		while (it.hasNext()) {
+			sb.append(it.next()).append(System.lineSeparator());
+		}
+		sb.append(String.format("%d file(s), %d not well formed, %d bytes in %.3f ms (%.2f MB/s)%n", results.size(),
+				getFailureCount(), totalBytes, wallNanos / 1_000_000.0, getThroughputMBps()));
+		sb.append(String.format("per-file latency ms: p50 %.3f, p90 %.3f, p99 %.3f, max %.3f",
+				getLatencyPercentile(50) / 1_000_000.0, getLatencyPercentile(90) / 1_000_000.0,
+				getLatencyPercentile(99) / 1_000_000.0, getLatencyPercentile(100) / 1_000_000.0));
+		return sb.toString();
+	}
+}
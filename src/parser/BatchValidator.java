@@ -0,0 +1,171 @@
+package parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import implementations.MyArrayList;
+import implementations.MyQueue;
+
+/**
+ * {@code BatchValidator} validates every {@code .xml} file under a directory
+ * tree concurrently and merges the results into one {@link BatchReport}.
+ *
+ * <p>
+ * Each file is validated as an independent task on the supplied
+ * {@link ExecutorService}, so every worker has its own stack of open tags and
+ * its own error queue and the tasks share nothing. Any executor may be used: a
+ * {@link ForkJoinPool} sized to the number of cores suits CPU-bound scanning,
+ * while on a JDK with virtual threads a virtual-thread-per-task executor suits
+ * directories on slow storage. Results are reported in path order regardless
+ * of the order in which the tasks finish.
+ * </p>
+ */
+public class BatchValidator {
+
+	/** The executor running the per-file tasks. */
+	private final ExecutorService executor;
+
+	/** The parser shared by all tasks; it holds no per-document state. */
+	private final XMLParser parser;
+
+	/** {@code true} to memory-map the files rather than read them. */
+	private final boolean mapped;
+
+	/**
+	 * Constructs a validator. The executor is not shut down by this class.
+	 *
+	 * @param executor the executor on which the files are validated
+	 * @param mapped   {@code true} to use {@link XMLParser#parseMapped(Path)},
+	 *                 {@code false} to use {@link XMLParser#parse(Path)}
+	 * @throws NullPointerException if {@code executor} is {@code null}
+	 */
+	public BatchValidator(ExecutorService executor, boolean mapped) {
+		if (executor == null) {
+			throw new NullPointerException("Executor cannot be null");
+		}
+		this.executor = executor;
+		this.parser = new XMLParser();
+		this.mapped = mapped;
+	}
+
+	/**
+	 * Validates every regular file whose name ends in {@code .xml} under
+	 * {@code root}, including subdirectories.
+	 *
+	 * @param root the directory to walk
+	 * @return the merged report, with results sorted by path
+	 * @throws IOException          if the directory cannot be walked
+	 * @throws InterruptedException if interrupted while waiting for the tasks
+	 */
+	public BatchReport validate(Path root) throws IOException, InterruptedException {
+		Path[] files;
+		try (Stream<Path> walk = Files.walk(root)) {
+			files = walk.filter(Files::isRegularFile).filter(p -> p.getFileName().toString().endsWith(".xml")).sorted()
+					.collect(Collectors.toList()).toArray(new Path[0]);
+		}
+
+		long start = System.nanoTime();
+		MyArrayList<Future<ParseResult>> futures = new MyArrayList<>(files.length);
+		for (Path file : files) {
+			futures.add(executor.submit(task(file)));
+		}
+
+		MyArrayList<ParseResult> results = new MyArrayList<>(files.length);
+		for (int i = 0; i < files.length; i++) {
+			try {
+				results.add(futures.get(i).get());
+			} catch (ExecutionException e) {
+				results.add(failed(files[i], e.getCause()));
+			}
+		}
+		return new BatchReport(results, System.nanoTime() - start);
+	}
+
+	/**
+	 * Creates the task validating one file. A file that cannot be read yields a
+	 * result holding a single error rather than failing the batch.
+	 */
+	private Callable<ParseResult> task(Path file) {
+		return () -> {
+			try {
+				return mapped ? parser.parseMapped(file) : parser.parse(file);
+			} catch (IOException e) {
+				return failed(file, e);
+			}
+		};
+	}
+
+	private static ParseResult failed(Path file, Throwable cause) {
+		MyQueue<ParseError> errors = new MyQueue<>();
+		errors.enqueue(new ParseError(0, "cannot be validated: " + cause));
+		return new ParseResult(file.toString(), errors, 0, 0);
+	}
+
+	/**
+	 * Validates a directory tree and prints the merged report.
+	 *
+	 * <p>
+	 * Usage: {@code java parser.BatchValidator [--mapped] [--threads N] dir}.
+	 * The files are validated on a fork-join pool of {@code N} threads, by
+	 * default one per available processor. If the directory is missing or
+	 * {@code N} is not a positive number, the usage line is printed and the
+	 * exit status is {@code 2}.
+	 * </p>
+	 *
+	 * @param args the options and the directory to walk
+	 */
+	public static void main(String[] args) {
+		boolean mapped = false;
+		int threads = Runtime.getRuntime().availableProcessors();
+		int i = 0;
+		for (; i < args.length - 1; i++) {
+			if (args[i].equals("--mapped")) {
+				mapped = true;
+			} else if (args[i].equals("--threads")) {
+				threads = parseThreads(args[++i]);
+			} else {
+				break;
+			}
+		}
+		if (i != args.length - 1 || threads < 1) {
+			System.err.println("usage: java parser.BatchValidator [--mapped] [--threads N] dir");
+			System.exit(2);
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		int status;
+		try {
+			BatchReport report = new BatchValidator(pool, mapped).validate(Paths.get(args[i]));
+			System.out.println(report);
+			status = report.getFailureCount() == 0 ? 0 : 1;
+		} catch (IOException | InterruptedException e) {
+			System.err.println(args[i] + ": " + e);
+			status = 2;
+		} finally {
+			pool.shutdown();
+		}
+		System.exit(status);
+	}
+
+	/**
+	 * Parses the argument of {@code --threads}.
+	 *
+	 * @return the thread count, or {@code 0} if {@code arg} is not a number
+	 */
+	private static int parseThreads(String arg) {
+		try {
+			return Integer.parseInt(arg);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package parser;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import implementations.MyQueue;
+
+/**
+ * Byte-level scanner used by {@link XMLParser} for memory-mapped input. The
+ * state machine is the one in {@link TagScanner}, fed unsigned bytes instead of
+ * characters.
+ *
+ * <p>
+ * The file is mapped into one or more read-only windows of at most
+ * {@link #WINDOW_SIZE} bytes, all of which stay mapped for the whole scan, so
+ * any byte of the file can be addressed by its absolute offset. A tag name is
+ * then just an (offset, length) range and is compared byte by byte against the
+ * ranges on the stack of open tags. The entries pushed onto that stack are
+ * recycled per nesting depth, so a well-formed document is validated without
+ * allocating anything per tag; strings are only decoded to build error
+ * messages.
+ * </p>
+ *
+ * <p>
+ * Markup characters are all ASCII and never occur inside a multi-byte UTF-8
+ * sequence, so scanning bytes gives the same result as scanning the decoded
+ * characters of a UTF-8 document.
+ * </p>
+ */
+final class MappedScanner extends TagScanner<MappedScanner.OpenRange> {
+
+	/** Largest number of bytes mapped by a single window, a power of two. */
+	static final int WINDOW_SHIFT = 30;
+	static final long WINDOW_SIZE = 1L << WINDOW_SHIFT;
+	private static final long WINDOW_MASK = WINDOW_SIZE - 1;
+
+	/**
+	 * A start tag waiting for its end tag, identified by the byte range of its
+	 * name. Instances are reused for every tag opened at the same depth.
+	 */
+	static final class OpenRange {
+		long offset;
+		int length;
+	}
+
+	private final MappedByteBuffer[] windows;
+	private final long size;
+
+	/** Recycled stack entries, indexed by nesting depth. */
+	private OpenRange[] pool = new OpenRange[16];
+
+	/** Offset and length of the current tag name. */
+	private long nameOffset;
+	private int nameLength;
+
+	/**
+	 * Maps the whole of {@code channel} for reading.
+	 *
+	 * @param channel an open channel positioned anywhere
+	 * @throws IOException if the file cannot be mapped
+	 */
+	MappedScanner(FileChannel channel) throws IOException {
+		size = channel.size();
+		int count = (int) ((size + WINDOW_SIZE - 1) >>> WINDOW_SHIFT);
+		windows = new MappedByteBuffer[count];
+		for (int w = 0; w < count; w++) {
+			long start = (long) w << WINDOW_SHIFT;
+			windows[w] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, size - start));
+		}
+	}
+
+	/**
+	 * Returns the number of bytes mapped.
+	 *
+	 * @return the file size
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Scans the whole file and reports anything left unfinished.
+	 *
+	 * @return the error queue
+	 */
+	MyQueue<ParseError> scan() {
+		for (int w = 0; w < windows.length; w++) {
+			scanWindow(windows[w], (long) w << WINDOW_SHIFT);
+		}
+		return finish(size);
+	}
+
+	private void scanWindow(MappedByteBuffer buf, long base) {
+		int limit = buf.limit();
+		for (int i = 0; i < limit; i++) {
+			step(buf.get(i) & 0xFF, base + i);
+		}
+	}
+
+	@Override
+	void beginName(long position) {
+		nameOffset = position;
+	}
+
+	@Override
+	void appendName(int c) {
+		// The name is a range of the mapping; it is measured by endName
+	}
+
+	@Override
+	void endName(long position) {
+		nameLength = (int) (position - nameOffset);
+	}
+
+	@Override
+	int nameLength() {
+		return nameLength;
+	}
+
+	@Override
+	String name() {
+		return decode(nameOffset, nameLength);
+	}
+
+	@Override
+	OpenRange openEntry(int depth) {
+		if (depth == pool.length) {
+			pool = Arrays.copyOf(pool, depth * 2);
+		}
+		OpenRange tag = pool[depth];
+		if (tag == null) {
+			tag = new OpenRange();
+			pool[depth] = tag;
+		}
+		tag.offset = nameOffset;
+		tag.length = nameLength;
+		return tag;
+	}
+
+	/**
+	 * Compares the current tag name with the name of an open tag, byte by byte.
+	 */
+	@Override
+	boolean nameEquals(OpenRange tag) {
+		if (tag.length != nameLength) {
+			return false;
+		}
+		long a = tag.offset;
+		long b = nameOffset;
+		for (int i = 0; i < nameLength; i++) {
+			if (byteAt(a + i) != byteAt(b + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	String nameOf(OpenRange tag) {
+		return decode(tag.offset, tag.length);
+	}
+
+	private byte byteAt(long offset) {
+		return windows[(int) (offset >>> WINDOW_SHIFT)].get((int) (offset & WINDOW_MASK));
+	}
+
+	/**
+	 * Decodes a UTF-8 byte range; only used to build error messages.
+	 */
+	private String decode(long offset, int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = byteAt(offset + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
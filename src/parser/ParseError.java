@@ -0,0 +1,57 @@
+package parser;
+
+/**
+ * A single well-formedness problem found while validating an XML document.
+ *
+ * <p>
+ * Errors are immutable and carry the 1-based line number on which the
+ * offending markup ended, so that they can be reported in document order.
+ * </p>
+ */
+public class ParseError {
+
+	/** Line on which the error was detected. */
+	private final int line;
+
+	/** Human-readable description of the error. */
+	private final String message;
+
+	/**
+	 * Constructs an error.
+	 *
+	 * @param line    the 1-based line on which the error was detected
+	 * @param message a description of the error
+	 */
+	public ParseError(int line, String message) {
+		this.line = line;
+		this.message = message;
+	}
+
+	/**
+	 * Returns the line on which this error was detected.
+	 *
+	 * @return the 1-based line number
+	 */
+	public int getLine() {
+		return line;
+	}
+
+	/**
+	 * Returns the description of this error.
+	 *
+	 * @return the error message
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * Returns this error formatted as {@code "line N: message"}.
+	 *
+	 * @return a printable form of this error
+	 */
+	@Override
+	public String toString() {
+		return "line " + line + ": " + message;
+	}
+}
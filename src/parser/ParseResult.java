@@ -0,0 +1,115 @@
+package parser;
+
+import implementations.MyQueue;
+import utilities.Iterator;
+
+/**
+ * Outcome of validating one XML document: the errors that were found, in
+ * document order, together with the amount of input scanned and the time it
+ * took.
+ */
+public class ParseResult {
+
+	/** Name of the validated source, usually a file path. */
+	private final String source;
+
+	/** Errors in the order they were detected. */
+	private final MyQueue<ParseError> errors;
+
+	/** Number of bytes (or characters, for reader input) scanned. */
+	private final long bytes;
+
+	/** Wall-clock validation time in nanoseconds. */
+	private final long elapsedNanos;
+
+	/**
+	 * Constructs a result.
+	 *
+	 * @param source       the name of the validated source
+	 * @param errors       the errors found, front of the queue first
+	 * @param bytes        the number of bytes scanned
+	 * @param elapsedNanos the time spent validating, in nanoseconds
+	 */
+	public ParseResult(String source, MyQueue<ParseError> errors, long bytes, long elapsedNanos) {
+		this.source = source;
+		this.errors = errors;
+		this.bytes = bytes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns the name of the validated source.
+	 *
+	 * @return the source name
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/**
+	 * Returns the queue of errors found, in document order.
+	 *
+	 * @return the error queue; empty when the document is well formed
+	 */
+	public MyQueue<ParseError> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Returns {@code true} if no errors were found.
+	 *
+	 * @return {@code true} if the document is well formed
+	 */
+	public boolean isWellFormed() {
+		return errors.isEmpty();
+	}
+
+	/**
+	 * Returns the number of bytes scanned.
+	 *
+	 * @return the input size
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the time spent validating.
+	 *
+	 * @return the elapsed time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns the validation throughput in megabytes (2^20 bytes) per second.
+	 *
+	 * @return the throughput, or {@code 0} if no time was measured
+	 */
+	public double getThroughputMBps() {
+		if (elapsedNanos <= 0) {
+			return 0.0;
+		}
+		return (bytes / (1024.0 * 1024.0)) / (elapsedNanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * Returns a multi-line report listing every error followed by a summary line
+	 * with the size, time and throughput.
+	 *
+	 * @return a printable report
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		Iterator<ParseError> it = errors.iterator();
+		while (it.hasNext()) {
+			sb.append(source).append(": ").append(it.next()).append(System.lineSeparator());
+		}
+		sb.append(String.format("%s: %s, %d error(s), %d bytes in %.3f ms (%.2f MB/s)", source,
+				isWellFormed() ? "well formed" : "NOT well formed", errors.size(), bytes, elapsedNanos / 1_000_000.0,
+				getThroughputMBps()));
+		return sb.toString();
+	}
+}
@@ -0,0 +1,392 @@
+package parser;
+
+import implementations.IntStack;
+import implementations.MyQueue;
+import implementations.MyStack;
+import utilities.Iterator;
+
+/**
+ * The tag-balance state machine shared by the character scanner of
+ * {@link XMLParser} and the byte scanner of {@link MappedScanner}.
+ *
+ * <p>
+ * Input is fed one code unit at a time through {@link #step(int, long)}, so
+ * markup may straddle buffer or window boundaries. All states, transitions and
+ * error messages live here; a subclass only decides how the current tag name
+ * is recorded and compared, through the name hooks and the open-tag entries of
+ * type {@code T} it pushes onto the stack of open tags.
+ * </p>
+ *
+ * @param <T> the type of the entries kept for open tags
+ */
+abstract class TagScanner<T> {
+
+	// ========== Scanner states ==========
+
+	/** Character data between tags. */
+	private static final int TEXT = 0;
+	/** Just read {@code <}. */
+	private static final int LT = 1;
+	/** Reading a start tag name. */
+	private static final int START_NAME = 2;
+	/** Inside a start tag, after the name. */
+	private static final int ATTRIBUTES = 3;
+	/** Inside a quoted attribute value. */
+	private static final int QUOTED = 4;
+	/** Read {@code /} inside a start tag. */
+	private static final int SLASH = 5;
+	/** Reading an end tag name. */
+	private static final int END_NAME = 6;
+	/** Inside an end tag, after the name. */
+	private static final int END_TRAILER = 7;
+	/** Inside a processing instruction. */
+	private static final int PI = 8;
+	/** Just read {@code <!}. */
+	private static final int BANG = 9;
+	/** Read {@code <!-}, expecting the second dash. */
+	private static final int COMMENT_OPEN = 10;
+	/** Inside a comment. */
+	private static final int COMMENT = 11;
+	/** Read {@code <![}, matching {@code CDATA[}. */
+	private static final int CDATA_OPEN = 12;
+	/** Inside a CDATA section. */
+	private static final int CDATA = 13;
+	/** Inside a declaration such as {@code <!DOCTYPE ...>}. */
+	private static final int DECLARATION = 14;
+
+	/** The part of the CDATA opener that follows {@code <![}. */
+	private static final String CDATA_KEYWORD = "CDATA[";
+
+	/** Entries for the open tags; the innermost is on top. */
+	private final MyStack<T> open = new MyStack<>();
+
+	/** Line on which each open tag began, kept in step with {@link #open}. */
+	private final IntStack openLines = new IntStack();
+
+	private final MyQueue<ParseError> errors = new MyQueue<>();
+
+	private int state = TEXT;
+	private int line = 1;
+	/** Line on which the current markup began. */
+	private int markupLine = 1;
+	/** Quote character closing the current attribute value. */
+	private int quote;
+	/**
+	 * Progress counter: consecutive dashes in a comment, consecutive {@code ]}
+	 * in a CDATA section, characters of {@link #CDATA_KEYWORD} matched, or
+	 * bracket depth in a declaration.
+	 */
+	private int count;
+	private boolean rootSeen;
+
+	// ========== Name hooks ==========
+
+	/**
+	 * Starts a new, empty tag name whose first character, if any, is at
+	 * {@code position}.
+	 */
+	abstract void beginName(long position);
+
+	/**
+	 * Adds a character to the current tag name.
+	 */
+	abstract void appendName(int c);
+
+	/**
+	 * Ends the current tag name just before {@code position}.
+	 */
+	abstract void endName(long position);
+
+	/**
+	 * Returns the length of the current tag name, in code units.
+	 */
+	abstract int nameLength();
+
+	/**
+	 * Returns the current tag name; only used to build error messages.
+	 */
+	abstract String name();
+
+	/**
+	 * Returns an entry recording the current tag name, to be pushed as the
+	 * open tag at nesting depth {@code depth}.
+	 */
+	abstract T openEntry(int depth);
+
+	/**
+	 * Returns {@code true} if the current tag name equals the name of an open
+	 * tag.
+	 */
+	abstract boolean nameEquals(T tag);
+
+	/**
+	 * Returns the name of an open tag; only used to build error messages.
+	 */
+	abstract String nameOf(T tag);
+
+	// ========== State machine ==========
+
+	/**
+	 * Scans one character.
+	 *
+	 * @param c        the character, or the unsigned value of a byte
+	 * @param position the offset of {@code c} in the input, passed on to the
+	 *                 name hooks
+	 */
+	final void step(int c, long position) {
+		if (c == '\n') {
+			line++;
+		}
+		switch (state) {
+		case TEXT:
+			if (c == '<') {
+				markupLine = line;
+				state = LT;
+			}
+			break;
+		case LT:
+			if (c == '/') {
+				beginName(position + 1);
+				state = END_NAME;
+			} else if (c == '?') {
+				count = 0;
+				state = PI;
+			} else if (c == '!') {
+				state = BANG;
+			} else if (isNameStart(c)) {
+				beginName(position);
+				appendName(c);
+				state = START_NAME;
+			} else {
+				error("'<' is not followed by a tag name");
+				state = c == '<' ? LT : TEXT;
+			}
+			break;
+		case START_NAME:
+			if (c == '>') {
+				endName(position);
+				openTag();
+				state = TEXT;
+			} else if (c == '/') {
+				endName(position);
+				state = SLASH;
+			} else if (isWhitespace(c)) {
+				endName(position);
+				state = ATTRIBUTES;
+			} else if (c == '<') {
+				endName(position);
+				unterminated();
+			} else {
+				appendName(c);
+			}
+			break;
+		case ATTRIBUTES:
+			if (c == '>') {
+				openTag();
+				state = TEXT;
+			} else if (c == '/') {
+				state = SLASH;
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+				state = QUOTED;
+			} else if (c == '<') {
+				unterminated();
+			}
+			break;
+		case QUOTED:
+			if (c == quote) {
+				state = ATTRIBUTES;
+			}
+			break;
+		case SLASH:
+			if (c == '>') {
+				// Self-closing tag: balanced by definition
+				selfClosingTag();
+				state = TEXT;
+			} else if (c == '<') {
+				unterminated();
+			} else {
+				state = ATTRIBUTES;
+			}
+			break;
+		case END_NAME:
+			if (c == '>') {
+				endName(position);
+				closeTag();
+				state = TEXT;
+			} else if (isWhitespace(c)) {
+				endName(position);
+				state = END_TRAILER;
+			} else if (c == '<') {
+				endName(position);
+				unterminated();
+			} else {
+				appendName(c);
+			}
+			break;
+		case END_TRAILER:
+			if (c == '>') {
+				closeTag();
+				state = TEXT;
+			} else if (c == '<') {
+				unterminated();
+			} else if (!isWhitespace(c)) {
+				error("unexpected '" + (char) c + "' in end tag </" + name() + ">");
+			}
+			break;
+		case PI:
+			if (c == '>' && count == 1) {
+				state = TEXT;
+			}
+			count = c == '?' ? 1 : 0;
+			break;
+		case BANG:
+			count = 0;
+			if (c == '-') {
+				state = COMMENT_OPEN;
+			} else if (c == '[') {
+				state = CDATA_OPEN;
+			} else {
+				state = c == '>' ? TEXT : DECLARATION;
+			}
+			break;
+		case COMMENT_OPEN:
+			state = c == '-' ? COMMENT : DECLARATION;
+			break;
+		case COMMENT:
+			if (c == '>' && count >= 2) {
+				state = TEXT;
+			}
+			count = c == '-' ? count + 1 : 0;
+			break;
+		case CDATA_OPEN:
+			if (c == CDATA_KEYWORD.charAt(count)) {
+				if (++count == CDATA_KEYWORD.length()) {
+					count = 0;
+					state = CDATA;
+				}
+			} else {
+				count = 1;
+				state = c == '>' ? TEXT : DECLARATION;
+			}
+			break;
+		case CDATA:
+			if (c == '>' && count >= 2) {
+				state = TEXT;
+			}
+			count = c == ']' ? count + 1 : 0;
+			break;
+		case DECLARATION:
+			if (c == '[') {
+				count++;
+			} else if (c == ']') {
+				count--;
+			} else if (c == '>' && count <= 0) {
+				state = TEXT;
+			}
+			break;
+		default:
+			throw new IllegalStateException("state " + state);
+		}
+	}
+
+	/**
+	 * Ends the document and reports anything left unfinished.
+	 *
+	 * @param end the offset just past the last character scanned
+	 * @return the error queue
+	 */
+	final MyQueue<ParseError> finish(long end) {
+		if (state == START_NAME || state == END_NAME) {
+			endName(end);
+		}
+		if (state != TEXT) {
+			error("document ends inside markup that began on line " + markupLine);
+		}
+		while (!open.isEmpty()) {
+			T tag = open.pop();
+			error("<" + nameOf(tag) + "> opened on line " + openLines.pop() + " is never closed");
+		}
+		if (!rootSeen) {
+			error("document has no root element");
+		}
+		return errors;
+	}
+
+	private void openTag() {
+		if (open.isEmpty() && rootSeen) {
+			error("<" + name() + "> is outside the root element");
+		}
+		rootSeen = true;
+		open.push(openEntry(open.size()));
+		openLines.push(markupLine);
+	}
+
+	private void selfClosingTag() {
+		if (open.isEmpty() && rootSeen) {
+			error("<" + name() + "/> is outside the root element");
+		}
+		rootSeen = true;
+	}
+
+	private void closeTag() {
+		if (nameLength() == 0) {
+			error("end tag has no name");
+			return;
+		}
+		if (open.isEmpty()) {
+			error("</" + name() + "> has no matching start tag");
+			return;
+		}
+		if (nameEquals(open.peek())) {
+			open.pop();
+			openLines.pop();
+			return;
+		}
+
+		// Look deeper: if the name is open further down, everything above it
+		// was left unclosed.
+		int depth = 0;
+		boolean found = false;
+		Iterator<T> it = open.iterator();
+		while (it.hasNext()) {
+			if (nameEquals(it.next())) {
+				found = true;
+				break;
+			}
+			depth++;
+		}
+		if (!found) {
+			error("</" + name() + "> has no matching start tag; expected </" + nameOf(open.peek()) + ">");
+			return;
+		}
+		for (int i = 0; i < depth; i++) {
+			T tag = open.pop();
+			error("<" + nameOf(tag) + "> opened on line " + openLines.pop() + " is not closed before </" + name()
+					+ ">");
+		}
+		open.pop();
+		openLines.pop();
+	}
+
+	/**
+	 * Reports a tag cut short by a new {@code <} and starts on the new markup.
+	 */
+	private void unterminated() {
+		error("tag <" + name() + " is not terminated by '>'");
+		markupLine = line;
+		state = LT;
+	}
+
+	private void error(String message) {
+		errors.enqueue(new ParseError(line, message));
+	}
+
+	private static boolean isNameStart(int c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':' || c >= 0x80;
+	}
+
+	private static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+}
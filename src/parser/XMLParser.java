@@ -0,0 +1,252 @@
+package parser;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import implementations.MyQueue;
+
+/**
+ * {@code XMLParser} is a streaming tag-balance validator for XML documents.
+ *
+ * <p>
+ * The document is read once, front to back, through a fixed-size character
+ * buffer, so memory use depends only on the buffer size and the nesting depth
+ * of the document, never on its length. Every start tag is pushed onto a
+ * {@link implementations.MyStack}; every end tag is matched against the top of
+ * that stack. Problems are reported, in document order, through a
+ * {@link MyQueue} of {@link ParseError}s.
+ * </p>
+ *
+ * <p>
+ * Processing instructions ({@code <?...?>}), comments, {@code CDATA} sections
+ * and declarations such as {@code <!DOCTYPE ...>} are skipped. Self-closing
+ * tags ({@code <tag/>}) need no matching end tag. Attribute values are skipped,
+ * so a {@code >} inside quotes does not end the tag. Tag names are compared
+ * case-sensitively.
+ * </p>
+ *
+ * <p>
+ * When an end tag does not match the top of the stack, the stack is searched:
+ * if the name is found deeper down, every tag above it is reported as unclosed
+ * and popped; otherwise the end tag is reported as unmatched and ignored. Tags
+ * still open at the end of the document are reported as unclosed.
+ * </p>
+ *
+ * <p>
+ * A parser holds no per-document state, so one instance may validate several
+ * documents, including concurrently.
+ * </p>
+ */
+public class XMLParser {
+
+	/** Default size of the read buffer, in characters. */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	/** Size of the read buffer, in characters. */
+	private final int bufferSize;
+
+	/**
+	 * Constructs a parser with a {@link #DEFAULT_BUFFER_SIZE} read buffer.
+	 */
+	public XMLParser() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Constructs a parser with the given read buffer size.
+	 *
+	 * @param bufferSize the number of characters read from the input at a time
+	 * @throws IllegalArgumentException if {@code bufferSize} is less than 1
+	 */
+	public XMLParser(int bufferSize) {
+		if (bufferSize < 1) {
+			throw new IllegalArgumentException("bufferSize must be >= 1");
+		}
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Validates a UTF-8 encoded XML file.
+	 *
+	 * @param file the file to validate
+	 * @return the validation result; its size is the file length in bytes
+	 * @throws IOException if the file cannot be read
+	 */
+	public ParseResult parse(Path file) throws IOException {
+		long bytes = Files.size(file);
+		long start = System.nanoTime();
+		try (Reader in = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+			Scanner scanner = new Scanner();
+			scan(in, scanner);
+			return new ParseResult(file.toString(), scanner.finish(), bytes, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Validates a UTF-8 encoded XML file by memory-mapping it and scanning the
+	 * mapped bytes directly, without decoding them to characters. Tag names are
+	 * compared as byte ranges of the mapping, so no {@code String} is created per
+	 * tag; this avoids most of the garbage produced by {@link #parse(Path)} on
+	 * large files. The buffer size of this parser is not used.
+	 *
+	 * @param file the file to validate
+	 * @return the validation result; its size is the file length in bytes
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public ParseResult parseMapped(Path file) throws IOException {
+		long start = System.nanoTime();
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedScanner scanner = new MappedScanner(channel);
+			MyQueue<ParseError> errors = scanner.scan();
+			return new ParseResult(file.toString(), errors, scanner.size(), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Validates an XML document read from a character stream. The reader is read
+	 * to the end but not closed.
+	 *
+	 * @param in     the document to validate
+	 * @param source the name to report for the document
+	 * @return the validation result; its size is the number of characters read
+	 * @throws IOException if the reader fails
+	 */
+	public ParseResult parse(Reader in, String source) throws IOException {
+		long start = System.nanoTime();
+		Scanner scanner = new Scanner();
+		long chars = scan(in, scanner);
+		return new ParseResult(source, scanner.finish(), chars, System.nanoTime() - start);
+	}
+
+	/**
+	 * Feeds the whole reader through the scanner, one buffer at a time.
+	 *
+	 * @return the number of characters read
+	 */
+	private long scan(Reader in, Scanner scanner) throws IOException {
+		char[] buffer = new char[bufferSize];
+		long total = 0;
+		int n;
+		while ((n = in.read(buffer)) != -1) {
+			scanner.feed(buffer, n);
+			total += n;
+		}
+		return total;
+	}
+
+	/**
+	 * Validates every file named on the command line and prints a report for
+	 * each, ending with its throughput. With a leading {@code --mapped} option
+	 * the files are memory-mapped instead of read through a buffer.
+	 *
+	 * @param args the paths of the files to validate
+	 */
+	public static void main(String[] args) {
+		boolean mapped = args.length > 0 && args[0].equals("--mapped");
+		int first = mapped ? 1 : 0;
+		if (args.length == first) {
+			System.err.println("usage: java parser.XMLParser [--mapped] file.xml [file.xml ...]");
+			System.exit(2);
+		}
+		XMLParser parser = new XMLParser();
+		boolean allWellFormed = true;
+		for (int i = first; i < args.length; i++) {
+			String arg = args[i];
+			try {
+				Path file = Paths.get(arg);
+				ParseResult result = mapped ? parser.parseMapped(file) : parser.parse(file);
+				System.out.println(result);
+				allWellFormed &= result.isWellFormed();
+			} catch (IOException e) {
+				System.err.println(arg + ": " + e.getMessage());
+				allWellFormed = false;
+			}
+		}
+		System.exit(allWellFormed ? 0 : 1);
+	}
+
+	/**
+	 * Per-document scanning state for character input. Tag names are collected
+	 * into a reused {@code StringBuilder}, and an open tag is recorded by its name
+	 * as a {@code String}.
+	 */
+	private static final class Scanner extends TagScanner<String> {
+
+		/** Accumulates the current tag name; reused for every tag. */
+		private final StringBuilder name = new StringBuilder();
+
+		/**
+		 * Scans the first {@code n} characters of {@code buf}.
+		 */
+		void feed(char[] buf, int n) {
+			for (int i = 0; i < n; i++) {
+				step(buf[i], i);
+			}
+		}
+
+		/**
+		 * Ends the document and reports anything left unfinished.
+		 *
+		 * @return the error queue
+		 */
+		MyQueue<ParseError> finish() {
+			return finish(0);
+		}
+
+		@Override
+		void beginName(long position) {
+			name.setLength(0);
+		}
+
+		@Override
+		void appendName(int c) {
+			name.append((char) c);
+		}
+
+		@Override
+		void endName(long position) {
+			// The name is complete as soon as it is appended
+		}
+
+		@Override
+		int nameLength() {
+			return name.length();
+		}
+
+		@Override
+		String name() {
+			return name.toString();
+		}
+
+		@Override
+		String openEntry(int depth) {
+			return name.toString();
+		}
+
+		@Override
+		boolean nameEquals(String tag) {
+			int len = name.length();
+			if (tag.length() != len) {
+				return false;
+			}
+			for (int i = 0; i < len; i++) {
+				if (tag.charAt(i) != name.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		String nameOf(String tag) {
+			return tag;
+		}
+	}
+}
@@ -2,6 +2,7 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import org.junit.After;
@@ -1299,4 +1300,85 @@ public class ArrayListTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#forEach(java.util.function.Consumer)}
+	 * to visit every item in order.
+	 */
+	@Test
+	public void testForEach_Order()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		final StringBuilder visited = new StringBuilder();
+		myList.forEach( e -> visited.append( e ).append( ' ' ) );
+
+		assertEquals( "Failed to visit items in order.", one + " " + two + " " + three + " ", visited.toString() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#forEach(java.util.function.Consumer)}
+	 * to throw ConcurrentModificationException when the action adds an item.
+	 */
+	@Test
+	public void testForEach_ConcurrentModificationException()
+	{
+		myList.add( one );
+		myList.add( two );
+		try
+		{
+			myList.forEach( e -> myList.add( three ) );
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertEquals( "Failed to stop after first modification.", 3, myList.size() );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayList#iterator()}
+	 * to read the list in place and throw ConcurrentModificationException
+	 * once the list is structurally modified, but not after a set.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		myList.add( one );
+		myList.add( two );
+		Iterator<Integer> it = myList.iterator();
+		myList.set( 1, three );
+		assertEquals( "Failed to iterate in order.", one, it.next() );
+		assertEquals( "Failed to see set element.", three, it.next() );
+
+		it = myList.iterator();
+		it.next();
+		myList.clear();
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * to append a copy of the list to itself.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		myList.add( one );
+		myList.add( two );
+
+		assertTrue( "Failed to return true.", myList.addAll( myList ) );
+		assertArrayEquals( "Failed to append copy.", new Object[] { one, two, one, two }, myList.toArray() );
+	}
 }
@@ -0,0 +1,463 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyArrayList;
+import implementations.MyArrayQueue;
+import implementations.MyQueue;
+
+/**
+ * Class Description:
+ * Test for the circular-array implementation of the QueueADT.
+ */
+
+public class ArrayQueueTest
+{
+	// Attributes
+	private MyArrayQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes an unbounded MyArrayQueue instance and three Integer instances
+	 * before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyArrayQueue<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#MyArrayQueue(int)}
+	 * to reject a capacity below one.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MyArrayQueue<Integer>( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#dequeue()}
+	 * to return elements in first-in first-out order.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_Order() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		assertEquals( "Failed to dequeue front element.", one, queue.dequeue() );
+		assertEquals( "Failed to dequeue front element.", two, queue.dequeue() );
+		assertEquals( "Failed to peek front element.", three, queue.peek() );
+		assertEquals( "Failed to return correct size.", 1, queue.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 */
+	@Test
+	public void testDequeue_EmptyQueueException()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#enqueue(Object)}
+	 * to throw NullPointerException for a null element.
+	 */
+	@Test
+	public void testEnqueue_NullPointerException()
+	{
+		try
+		{
+			queue.enqueue( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#enqueue(Object)}
+	 * to keep order while the indices wrap around and the array grows.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueue_WrapAndGrow() throws EmptyQueueException
+	{
+		int next = 0;
+		int expected = 0;
+		for( int round = 0; round < 100; round++ )
+		{
+			for( int i = 0; i < 7; i++ )
+			{
+				queue.enqueue( next++ );
+			}
+			for( int i = 0; i < 5; i++ )
+			{
+				assertEquals( "Failed to keep FIFO order.", Integer.valueOf( expected++ ), queue.dequeue() );
+			}
+		}
+		assertEquals( "Failed to return correct size.", next - expected, queue.size() );
+
+		Object[] array = queue.toArray();
+		for( int i = 0; i < array.length; i++ )
+		{
+			assertEquals( "Failed to copy in order.", expected + i, array[i] );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#isFull()}
+	 * to report a bounded queue at capacity and reject further elements.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIsFull_Bounded() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> bounded = new MyArrayQueue<Integer>( 3 );
+		bounded.enqueue( one );
+		bounded.enqueue( two );
+		assertFalse( "Failed to report not full.", bounded.isFull() );
+		bounded.enqueue( three );
+		assertTrue( "Failed to report full.", bounded.isFull() );
+		try
+		{
+			bounded.enqueue( one );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		bounded.dequeue();
+		assertFalse( "Failed to report not full.", bounded.isFull() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#isFull()}
+	 * to never report an unbounded queue as full.
+	 */
+	@Test
+	public void testIsFull_Unbounded()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			queue.enqueue( i );
+		}
+		assertFalse( "Failed to report not full.", queue.isFull() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#dequeueAll()}
+	 * to clear the queue.
+	 */
+	@Test
+	public void testDequeueAll()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeueAll();
+
+		assertTrue( "Failed to clear.", queue.isEmpty() );
+		queue.enqueue( three );
+		assertEquals( "Failed to reuse cleared queue.", 1, queue.search( three ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#search(Object)} and
+	 * {@link implementations.MyArrayQueue#contains(Object)}
+	 * to find elements by position from the front.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSearchContains() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.dequeue();
+
+		assertEquals( "Failed to return position.", 2, queue.search( three ) );
+		assertEquals( "Failed to return -1.", -1, queue.search( one ) );
+		assertTrue( "Failed to find element.", queue.contains( two ) );
+		assertFalse( "Failed to miss element.", queue.contains( one ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#toArray(Object[])}
+	 * to fill a large enough array and null-terminate it.
+	 */
+	@Test
+	public void testToArrayEArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Integer[] holder = new Integer[] { 0, 0, 0, 0 };
+		Integer[] result = queue.toArray( holder );
+
+		assertSame( "Failed to reuse array.", holder, result );
+		assertEquals( "Failed to copy element.", two, result[1] );
+		assertNull( "Failed to null-terminate.", result[2] );
+		assertEquals( "Failed to allocate array.", 2, queue.toArray( new Integer[0] ).length );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#iterator()}
+	 * to iterate front to rear and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+
+		assertEquals( "Failed to iterate in order.", one, it.next() );
+		assertEquals( "Failed to iterate in order.", two, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#equals(utilities.QueueADT)}
+	 * to compare against another QueueADT implementation.
+	 */
+	@Test
+	public void testEquals()
+	{
+		MyQueue<Integer> other = new MyQueue<Integer>();
+		queue.enqueue( one );
+		other.enqueue( one );
+		assertTrue( "Failed to return true.", queue.equals( other ) );
+		other.enqueue( two );
+		assertFalse( "Failed to return false.", queue.equals( other ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#drainTo(utilities.ListADT, int)}
+	 * to move front items across the wrap point.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDrainTo_Wrap() throws EmptyQueueException
+	{
+		MyArrayQueue<Integer> bounded = new MyArrayQueue<Integer>( 4 );
+		MyArrayList<Integer> sink = new MyArrayList<Integer>();
+		bounded.enqueue( 0 );
+		bounded.enqueue( 0 );
+		bounded.dequeue();
+		bounded.dequeue();
+		bounded.enqueue( one );
+		bounded.enqueue( two );
+		bounded.enqueue( three );
+
+		assertEquals( "Failed to return number moved.", 2, bounded.drainTo( sink, 2 ) );
+		assertArrayEquals( "Failed to append in order.", new Object[] { one, two }, sink.toArray() );
+		assertEquals( "Failed to keep remaining item.", three, bounded.peek() );
+		assertEquals( "Failed to return correct size.", 1, bounded.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#enqueueAll(utilities.ListADT)}
+	 * to grow an unbounded queue once and reject a batch that overflows a bounded one.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueueAll() throws EmptyQueueException
+	{
+		MyArrayList<Integer> source = new MyArrayList<Integer>();
+		for( int i = 0; i < 40; i++ )
+		{
+			source.add( i );
+		}
+		queue.enqueue( one );
+		queue.enqueueAll( source );
+		assertEquals( "Failed to return correct size.", 41, queue.size() );
+		assertEquals( "Failed to keep order.", one, queue.dequeue() );
+		assertEquals( "Failed to keep order.", Integer.valueOf( 0 ), queue.dequeue() );
+
+		MyArrayQueue<Integer> bounded = new MyArrayQueue<Integer>( 3 );
+		bounded.enqueue( one );
+		try
+		{
+			bounded.enqueueAll( source );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave queue unchanged.", 1, bounded.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#drainTo(utilities.ListADT, int)}
+	 * to remove only the items a failing sink accepted.
+	 */
+	@Test
+	public void testDrainTo_FailingSink()
+	{
+		MyArrayList<Integer> sink = new MyArrayList<Integer>()
+		{
+			@Override
+			public boolean add( Integer toAdd )
+			{
+				if( size() == 1 )
+				{
+					throw new IllegalStateException( "Sink is full" );
+				}
+				return super.add( toAdd );
+			}
+		};
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		try
+		{
+			queue.drainTo( sink, 3 );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertArrayEquals( "Failed to move accepted item.", new Object[] { one }, sink.toArray() );
+		assertEquals( "Failed to return correct size.", 2, queue.size() );
+		assertArrayEquals( "Failed to keep rejected items.", new Object[] { two, three }, queue.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#enqueueAll(utilities.ListADT)}
+	 * to reject a source holding a null item without adding anything.
+	 */
+	@Test
+	public void testEnqueueAll_NullItem()
+	{
+		MyArrayList<Integer> source = new MyArrayList<Integer>()
+		{
+			@Override
+			public int size()
+			{
+				return 3;
+			}
+
+			@Override
+			public Iterator<Integer> iterator()
+			{
+				return new Iterator<Integer>()
+				{
+					private final Integer[] items = { two, null, three };
+					private int index;
+
+					@Override
+					public boolean hasNext()
+					{
+						return index < items.length;
+					}
+
+					@Override
+					public Integer next()
+					{
+						return items[index++];
+					}
+				};
+			}
+		};
+		queue.enqueue( one );
+		try
+		{
+			queue.enqueueAll( source );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave queue unchanged.", 1, queue.size() );
+		queue.enqueue( three );
+		assertArrayEquals( "Failed to clear written slots.", new Object[] { one, three }, queue.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayQueue#iterator()}
+	 * to throw ConcurrentModificationException once the queue is structurally
+	 * modified.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+		assertNotNull( "Failed to return first item.", it.next() );
+		queue.enqueue( three );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
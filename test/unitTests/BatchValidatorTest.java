@@ -0,0 +1,124 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import parser.BatchReport;
+import parser.BatchValidator;
+
+/**
+ * Class Description:
+ * Test for the concurrent directory validator in the parser package.
+ */
+
+public class BatchValidatorTest
+{
+	// Attributes
+	private ExecutorService executor;
+	private Path root;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Creates a directory tree holding copies of both samples and a non-XML file,
+	 * and a four-thread fork-join pool, before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		executor = new ForkJoinPool( 4 );
+		root = folder.getRoot().toPath();
+		File nested = folder.newFolder( "b", "nested" );
+		for( int i = 0; i < 10; i++ )
+		{
+			Files.copy( Paths.get( "res", "sample1.xml" ), root.resolve( "a" + i + ".xml" ) );
+		}
+		Files.copy( Paths.get( "res", "sample2.xml" ), nested.toPath().resolve( "bad.xml" ) );
+		Files.write( root.resolve( "notes.txt" ), "<a>".getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	/**
+	 * Shuts down the executor after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		executor.shutdownNow();
+		executor = null;
+	}
+
+	/**
+	 * Test method for {@link parser.BatchValidator#validate(java.nio.file.Path)}
+	 * to validate every XML file in the tree and report them in path order.
+	 * @throws Exception
+	 */
+	@Test
+	public void testValidate_OrderedResults() throws Exception
+	{
+		BatchReport report = new BatchValidator( executor, false ).validate( root );
+
+		assertEquals( "Failed to find every XML file.", 11, report.getResults().size() );
+		assertEquals( "Failed to count failures.", 1, report.getFailureCount() );
+		for( int i = 0; i < 10; i++ )
+		{
+			assertTrue( "Failed to order results by path.",
+					report.getResults().get( i ).getSource().endsWith( "a" + i + ".xml" ) );
+		}
+		assertTrue( "Failed to order results by path.", report.getResults().get( 10 ).getSource().endsWith( "bad.xml" ) );
+	}
+
+	/**
+	 * Test method for {@link parser.BatchValidator#validate(java.nio.file.Path)}
+	 * to give the same verdicts in mapped mode.
+	 * @throws Exception
+	 */
+	@Test
+	public void testValidate_Mapped() throws Exception
+	{
+		BatchReport report = new BatchValidator( executor, true ).validate( root );
+
+		assertEquals( "Failed to find every XML file.", 11, report.getResults().size() );
+		assertEquals( "Failed to report errors of the bad file.", 6, report.getResults().get( 10 ).getErrors().size() );
+	}
+
+	/**
+	 * Test method for {@link parser.BatchReport#getLatencyPercentile(double)}
+	 * to return ordered percentiles and reject values out of range.
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetLatencyPercentile() throws Exception
+	{
+		BatchReport report = new BatchValidator( executor, false ).validate( root );
+
+		assertTrue( "Failed to order percentiles.",
+				report.getLatencyPercentile( 50 ) <= report.getLatencyPercentile( 99 ) );
+		assertTrue( "Failed to return the maximum.",
+				report.getLatencyPercentile( 99 ) <= report.getLatencyPercentile( 100 ) );
+		try
+		{
+			report.getLatencyPercentile( 101 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
@@ -0,0 +1,357 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyArrayList;
+import implementations.MyBlockingQueue;
+import implementations.MyQueue;
+
+/**
+ * Class Description:
+ * Test for the bounded blocking implementation of the QueueADT.
+ */
+
+public class BlockingQueueTest
+{
+	// Attributes
+	private MyBlockingQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyBlockingQueue instance with capacity two and three Integer
+	 * instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyBlockingQueue<Integer>( 2 );
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#MyBlockingQueue(int)}
+	 * to reject a capacity below one.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MyBlockingQueue<Integer>( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#dequeue()}
+	 * to return elements in first-in first-out order.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_Order() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+
+		assertEquals( "Failed to peek front item.", one, queue.peek() );
+		assertEquals( "Failed to dequeue front item.", one, queue.dequeue() );
+		queue.enqueue( three );
+		assertEquals( "Failed to dequeue front item.", two, queue.dequeue() );
+		assertEquals( "Failed to dequeue front item.", three, queue.dequeue() );
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 */
+	@Test
+	public void testDequeue_EmptyQueueException()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#isFull()}
+	 * to return true at capacity and for {@link implementations.MyBlockingQueue#enqueue(Object)}
+	 * to reject further items without waiting.
+	 */
+	@Test
+	public void testEnqueue_Full()
+	{
+		queue.enqueue( one );
+		assertFalse( "Failed to report not full.", queue.isFull() );
+		queue.enqueue( two );
+		assertTrue( "Failed to report full.", queue.isFull() );
+		try
+		{
+			queue.enqueue( three );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#offer(Object, long, TimeUnit)}
+	 * and {@link implementations.MyBlockingQueue#poll(long, TimeUnit)} to give up
+	 * when the time runs out.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testOfferPoll_Timeout() throws InterruptedException
+	{
+		assertNull( "Failed to time out.", queue.poll( 10, TimeUnit.MILLISECONDS ) );
+		assertTrue( "Failed to accept item.", queue.offer( one, 10, TimeUnit.MILLISECONDS ) );
+		assertTrue( "Failed to accept item.", queue.offer( two, 10, TimeUnit.MILLISECONDS ) );
+		assertFalse( "Failed to time out.", queue.offer( three, 10, TimeUnit.MILLISECONDS ) );
+		assertEquals( "Failed to poll front item.", one, queue.poll( 10, TimeUnit.MILLISECONDS ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#put(Object)}
+	 * to wait until a consumer makes room.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testPut_BlocksWhenFull() throws InterruptedException
+	{
+		queue.put( one );
+		queue.put( two );
+		Thread producer = new Thread( () -> {
+			try
+			{
+				queue.put( three );
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		producer.start();
+		producer.join( 50 );
+		assertTrue( "Failed to block producer.", producer.isAlive() );
+
+		assertEquals( "Failed to take front item.", one, queue.take() );
+		producer.join( 5000 );
+		assertFalse( "Failed to release producer.", producer.isAlive() );
+		assertArrayEquals( "Failed to keep order.", new Object[] { two, three }, queue.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#take()}
+	 * to wait for a producer and to respond to interruption.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testTake_BlocksWhenEmpty() throws InterruptedException
+	{
+		final Object[] result = new Object[1];
+		Thread consumer = new Thread( () -> {
+			try
+			{
+				result[0] = queue.take();
+			}
+			catch( InterruptedException e )
+			{
+				result[0] = e;
+			}
+		} );
+		consumer.start();
+		consumer.join( 50 );
+		assertTrue( "Failed to block consumer.", consumer.isAlive() );
+		consumer.interrupt();
+		consumer.join( 5000 );
+		assertTrue( "Failed to interrupt consumer.", result[0] instanceof InterruptedException );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#dequeueAll()},
+	 * {@link implementations.MyBlockingQueue#search(Object)} and
+	 * {@link implementations.MyBlockingQueue#iterator()}.
+	 */
+	@Test
+	public void testSearchIteratorDequeueAll()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+
+		assertEquals( "Failed to return position.", 2, queue.search( two ) );
+		assertEquals( "Failed to return -1.", -1, queue.search( three ) );
+		Iterator<Integer> it = queue.iterator();
+		assertEquals( "Failed to iterate in order.", one, it.next() );
+		assertEquals( "Failed to iterate in order.", two, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		queue.dequeueAll();
+		assertEquals( "Failed to return correct size.", 0, queue.size() );
+		queue.enqueue( three );
+		assertEquals( "Failed to reuse queue.", 1, queue.search( three ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#equals(utilities.QueueADT)}
+	 * to compare against another QueueADT implementation.
+	 */
+	@Test
+	public void testEquals()
+	{
+		MyQueue<Integer> other = new MyQueue<Integer>();
+		queue.enqueue( one );
+		other.enqueue( one );
+		assertTrue( "Failed to return true.", queue.equals( other ) );
+		other.enqueue( two );
+		assertFalse( "Failed to return false.", queue.equals( other ) );
+	}
+
+	/**
+	 * Test of producers and consumers through a small queue: every item arrives
+	 * exactly once and the queue never exceeds its capacity.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testProducersConsumers() throws InterruptedException
+	{
+		final int perThread = 10000;
+		final boolean[] seen = new boolean[2 * perThread];
+		final boolean[] overflow = new boolean[1];
+		Thread[] workers = new Thread[4];
+		for( int p = 0; p < 2; p++ )
+		{
+			final int id = p;
+			workers[p] = new Thread( () -> {
+				try
+				{
+					for( int i = 0; i < perThread; i++ )
+					{
+						queue.put( id * perThread + i );
+						if( queue.size() > 2 )
+						{
+							overflow[0] = true;
+						}
+					}
+				}
+				catch( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+				}
+			} );
+		}
+		for( int c = 0; c < 2; c++ )
+		{
+			workers[2 + c] = new Thread( () -> {
+				try
+				{
+					for( int i = 0; i < perThread; i++ )
+					{
+						int value = queue.take();
+						synchronized( seen )
+						{
+							seen[value] = true;
+						}
+					}
+				}
+				catch( InterruptedException e )
+				{
+					Thread.currentThread().interrupt();
+				}
+			} );
+		}
+		for( Thread worker : workers )
+		{
+			worker.start();
+		}
+		for( Thread worker : workers )
+		{
+			worker.join();
+		}
+		assertFalse( "Failed to respect capacity.", overflow[0] );
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+		for( boolean s : seen )
+		{
+			assertTrue( "Failed to deliver every item.", s );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#drainTo(utilities.ListADT, int)}
+	 * to release a producer blocked on a full queue, and for
+	 * {@link implementations.MyBlockingQueue#enqueueAll(utilities.ListADT)} to
+	 * reject a batch that does not fit.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testDrainToEnqueueAll() throws InterruptedException
+	{
+		MyArrayList<Integer> batch = new MyArrayList<Integer>();
+		batch.add( one );
+		batch.add( two );
+		queue.enqueueAll( batch );
+		try
+		{
+			queue.enqueueAll( batch );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		Thread producer = new Thread( () -> {
+			try
+			{
+				queue.put( three );
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		producer.start();
+
+		MyArrayList<Integer> sink = new MyArrayList<Integer>();
+		assertEquals( "Failed to return number moved.", 2, queue.drainTo( sink, 5 ) );
+		assertArrayEquals( "Failed to append in order.", new Object[] { one, two }, sink.toArray() );
+		producer.join( 5000 );
+		assertFalse( "Failed to release producer.", producer.isAlive() );
+		assertEquals( "Failed to accept item after drain.", three, queue.take() );
+	}
+}
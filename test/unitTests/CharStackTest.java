@@ -0,0 +1,201 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import utilities.CharIterator;
+import implementations.CharStack;
+
+/**
+ * Class Description:
+ * Test for the primitive char stack.
+ */
+
+public class CharStackTest
+{
+	// Attributes
+	private CharStack stack;
+
+	/**
+	 * Initializes an CharStack holding 'a', 'b', 'c' ('c' on top) before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new CharStack();
+		stack.push( 'a' );
+		stack.push( 'b' );
+		stack.push( 'c' );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#CharStack(int)}
+	 * to reject a negative capacity.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new CharStack( -1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#pop()} and
+	 * {@link implementations.CharStack#peek()} to return values last-in first-out.
+	 */
+	@Test
+	public void testPopPeek()
+	{
+		assertEquals( "Failed to peek top value.", 'c', stack.peek() );
+		assertEquals( "Failed to pop top value.", 'c', stack.pop() );
+		assertEquals( "Failed to pop top value.", 'b', stack.pop() );
+		assertEquals( "Failed to return correct size.", 1, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#pop()}
+	 * to throw EmptyStackException once the stack is empty.
+	 */
+	@Test
+	public void testPop_EmptyStackException()
+	{
+		stack.clear();
+		assertTrue( "Failed to clear stack.", stack.isEmpty() );
+		try
+		{
+			stack.pop();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#push(char)}
+	 * to grow from a zero-length array.
+	 */
+	@Test
+	public void testPush_Grow()
+	{
+		CharStack grown = new CharStack( 0 );
+		for( int i = 0; i < 100; i++ )
+		{
+			grown.push( (char) i );
+		}
+		assertEquals( "Failed to return correct size.", 100, grown.size() );
+		assertEquals( "Failed to keep bottom value.", 100, grown.search( (char) 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#search(char)} and
+	 * {@link implementations.CharStack#contains(char)}.
+	 */
+	@Test
+	public void testSearchContains()
+	{
+		assertEquals( "Failed to return top position.", 1, stack.search( 'c' ) );
+		assertEquals( "Failed to return bottom position.", 3, stack.search( 'a' ) );
+		assertEquals( "Failed to return -1.", -1, stack.search( 'd' ) );
+		assertTrue( "Failed to find value.", stack.contains( 'b' ) );
+		assertFalse( "Failed to miss value.", stack.contains( 'd' ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#toArray(char[])}
+	 * to copy top to bottom into a large enough array or a new one.
+	 */
+	@Test
+	public void testToArray()
+	{
+		char[] holder = new char[4];
+		assertSame( "Failed to reuse array.", holder, stack.toArray( holder ) );
+		assertArrayEquals( "Failed to copy top to bottom.", new char[] { 'c', 'b', 'a', 0 }, holder );
+		assertArrayEquals( "Failed to copy top to bottom.", new char[] { 'c', 'b', 'a' }, stack.toArray( new char[1] ) );
+		assertArrayEquals( "Failed to copy top to bottom.", new char[] { 'c', 'b', 'a' }, stack.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#iterator()}
+	 * to iterate top to bottom and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		CharIterator it = stack.iterator();
+		assertEquals( "Failed to iterate in order.", 'c', it.next() );
+		assertEquals( "Failed to iterate in order.", 'b', it.next() );
+		assertEquals( "Failed to iterate in order.", 'a', it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#equals(CharStack)}.
+	 */
+	@Test
+	public void testEquals()
+	{
+		CharStack other = new CharStack();
+		other.push( 'a' );
+		other.push( 'b' );
+		assertFalse( "Failed to return false.", stack.equals( other ) );
+		other.push( 'c' );
+		assertTrue( "Failed to return true.", stack.equals( other ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.CharStack#iterator()}
+	 * to throw ConcurrentModificationException once the stack is popped.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		CharIterator it = stack.iterator();
+		assertEquals( "Failed to iterate in order.", 'c', it.next() );
+		stack.pop();
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
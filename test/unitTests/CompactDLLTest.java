@@ -0,0 +1,328 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyCompactDLL;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the array-backed doubly-linked list implementation of the ListADT.
+ * The slot arrays are read through reflection to check how slots are handed
+ * out, freed, reused and grown.
+ */
+
+public class CompactDLLTest
+{
+	// Attributes
+	private static final int NIL = -1;
+	private MyCompactDLL<Integer> myList;
+
+	/**
+	 * Initializes a MyCompactDLL with two slots before each test, so that small
+	 * lists already make its arrays grow.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyCompactDLL<Integer>( 2 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCompactDLL#MyCompactDLL(int)}
+	 * to reject a negative capacity and to grow from a capacity of zero.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException() throws Exception
+	{
+		try
+		{
+			new MyCompactDLL<Integer>( -1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+		myList = new MyCompactDLL<Integer>( 0 );
+		assertEquals( "Failed to start with no slots.", 0, capacity() );
+		myList.add( 1 );
+		assertEquals( "Failed to grow by one slot.", 1, capacity() );
+		assertEquals( "Failed to grow from zero.", Integer.valueOf( 1 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCompactDLL#add(Object)}
+	 * to grow the three parallel arrays together by half plus one slot, only
+	 * when every slot is in use, keeping the links intact.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testAdd_GrowsArrays() throws Exception
+	{
+		int[] expected = { 2, 2, 4, 4, 7, 7, 7, 11, 11, 11, 11, 17 };
+		for( int i = 0; i < expected.length; i++ )
+		{
+			myList.add( i );
+			assertEquals( "Failed to grow to expected capacity.", expected[i], capacity() );
+			assertEquals( "Failed to hand out next unused slot.", i + 1, intField( "used" ) );
+			checkSlots();
+		}
+		for( int i = 0; i < expected.length; i++ )
+		{
+			assertEquals( "Failed to keep element after growth.", Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCompactDLL#remove(int)} and
+	 * {@link implementations.MyCompactDLL#add(int, Object)} to put freed slots
+	 * on the free chain and hand them out again, most recently freed first,
+	 * before taking unused slots or growing.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRemoveInt_ReusesFreedSlots() throws Exception
+	{
+		for( int i = 0; i < 6; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to grow to expected capacity.", 7, capacity() );
+
+		myList.remove( 1 );
+		myList.remove( 3 );
+		assertEquals( "Failed to free last removed slot first.", 4, intField( "free" ) );
+		assertArrayEquals( "Failed to chain freed slots.", new int[] { 4, 1 }, freeChain() );
+		assertEquals( "Failed to keep slots in use.", 6, intField( "used" ) );
+
+		myList.add( 0, 10 );
+		assertEquals( "Failed to reuse most recently freed slot.", Integer.valueOf( 10 ), slots()[4] );
+		myList.add( 20 );
+		assertEquals( "Failed to reuse freed slot.", Integer.valueOf( 20 ), slots()[1] );
+		assertEquals( "Failed to empty free chain.", NIL, intField( "free" ) );
+		assertEquals( "Failed to reuse slots before unused ones.", 6, intField( "used" ) );
+
+		myList.add( 30 );
+		assertEquals( "Failed to take unused slot.", 7, intField( "used" ) );
+		assertEquals( "Failed to take unused slot before growing.", 7, capacity() );
+		myList.add( 40 );
+		assertEquals( "Failed to grow once every slot is used.", 11, capacity() );
+
+		checkSlots();
+		assertArrayEquals( "Failed to keep order.", new Object[] { 10, 0, 2, 3, 5, 20, 30, 40 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCompactDLL#remove(Object)}
+	 * to free the slot of the removed element.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRemoveE_FreesSlot() throws Exception
+	{
+		for( int i = 0; i < 4; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to remove element.", Integer.valueOf( 2 ), myList.remove( Integer.valueOf( 2 ) ) );
+
+		assertArrayEquals( "Failed to chain freed slot.", new int[] { 2 }, freeChain() );
+		assertNull( "Failed to clear freed slot.", slots()[2] );
+		checkSlots();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCompactDLL#clear()}
+	 * to release every slot but keep the grown arrays.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testClear_KeepsCapacity() throws Exception
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		myList.remove( 0 );
+		assertEquals( "Failed to grow to expected capacity.", 11, capacity() );
+
+		myList.clear();
+
+		assertEquals( "Failed to keep capacity.", 11, capacity() );
+		assertEquals( "Failed to reset used slots.", 0, intField( "used" ) );
+		assertEquals( "Failed to reset free chain.", NIL, intField( "free" ) );
+		checkSlots();
+		for( int i = 0; i < 11; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to refill without growing.", 11, capacity() );
+		checkSlots();
+	}
+
+	/**
+	 * Test of random positional adds and removes against java.util.ArrayList,
+	 * checking after every step that every slot below the high-water mark is
+	 * either linked into the list or on the free chain, and never both.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRandomOperations_KeepSlotsConsistent() throws Exception
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		Random random = new Random( 304 );
+		for( int step = 0; step < 5000; step++ )
+		{
+			if( random.nextInt( 10 ) < 6 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				myList.add( index, step );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same element.", expected.remove( index ), myList.remove( index ) );
+			}
+			checkSlots();
+		}
+		assertArrayEquals( "Failed to keep same elements.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCompactDLL#iterator()}
+	 * to throw ConcurrentModificationException once the list is structurally
+	 * modified.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+		Iterator<Integer> it = myList.iterator();
+		assertNotNull( "Failed to return first item.", it.next() );
+		myList.add( 0, 9 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Checks the slot arrays of myList: the three arrays have one length, the
+	 * links agree in both directions, every slot below used is either linked
+	 * or free, free slots and slots from used on hold no element.
+	 */
+	private void checkSlots() throws Exception
+	{
+		Object[] elements = slots();
+		int[] prev = (int[]) field( myList, "prev" );
+		int[] next = (int[]) field( myList, "next" );
+		int used = intField( "used" );
+		assertEquals( "Failed to keep prev as long as elements.", elements.length, prev.length );
+		assertEquals( "Failed to keep next as long as elements.", elements.length, next.length );
+		assertTrue( "Failed to keep used within capacity.", used <= elements.length );
+
+		boolean[] seen = new boolean[used];
+		int linked = 0;
+		int last = NIL;
+		for( int slot = intField( "head" ); slot != NIL; slot = next[slot] )
+		{
+			assertTrue( "Failed to link only used slots.", slot < used && !seen[slot] );
+			assertNotNull( "Failed to keep element in linked slot.", elements[slot] );
+			assertEquals( "Failed to link slot back to its predecessor.", last, prev[slot] );
+			seen[slot] = true;
+			last = slot;
+			linked++;
+		}
+		assertEquals( "Failed to keep tail at last slot.", last, intField( "tail" ) );
+		assertEquals( "Failed to match linked slots with size.", myList.size(), linked );
+
+		int[] chain = freeChain();
+		for( int slot : chain )
+		{
+			assertTrue( "Failed to free only used, unlinked slots.", slot < used && !seen[slot] );
+			assertNull( "Failed to clear freed slot.", elements[slot] );
+			seen[slot] = true;
+		}
+		assertEquals( "Failed to account for every used slot.", used, linked + chain.length );
+		for( int slot = used; slot < elements.length; slot++ )
+		{
+			assertNull( "Failed to keep unused slot empty.", elements[slot] );
+		}
+	}
+
+	/**
+	 * Returns the slots on the free chain of myList, first to be reused first.
+	 */
+	private int[] freeChain() throws Exception
+	{
+		int[] next = (int[]) field( myList, "next" );
+		ArrayList<Integer> chain = new ArrayList<Integer>();
+		for( int slot = intField( "free" ); slot != NIL; slot = next[slot] )
+		{
+			assertTrue( "Failed to end free chain.", chain.size() <= next.length );
+			chain.add( slot );
+		}
+		int[] result = new int[chain.size()];
+		for( int i = 0; i < result.length; i++ )
+		{
+			result[i] = chain.get( i );
+		}
+		return result;
+	}
+
+	private Object[] slots() throws Exception
+	{
+		return (Object[]) field( myList, "elements" );
+	}
+
+	private int capacity() throws Exception
+	{
+		return slots().length;
+	}
+
+	private int intField( String name ) throws Exception
+	{
+		return (Integer) field( myList, name );
+	}
+
+	/**
+	 * Reads a private field of an implementation object.
+	 */
+	private static Object field( Object target, String name ) throws Exception
+	{
+		Field f = target.getClass().getDeclaredField( name );
+		f.setAccessible( true );
+		return f.get( target );
+	}
+}
@@ -2,6 +2,7 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import org.junit.After;
@@ -403,6 +404,209 @@ public class DLLTest
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#transferAll(implementations.MyDLL)}
+	 * to move every node of another list onto the end and empty the source.
+	 */
+	@Test
+	public void testTransferAll()
+	{
+		MyDLL<Integer> source = new MyDLL<>();
+		source.add( three );
+		source.add( four );
+		myList.add( one );
+		myList.add( two );
+
+		myList.transferAll( source );
+		assertEquals( "Failed to update size.", 4, myList.size() );
+		assertTrue( "Failed to empty source.", source.isEmpty() );
+		myList.add( five );
+		source.add( one );
+		assertArrayEquals( "Failed to link in order.", new Object[] { one, two, three, four, five }, myList.toArray() );
+		assertArrayEquals( "Failed to reuse source.", new Object[] { one }, source.toArray() );
+		assertEquals( "Failed to link backwards.", four, myList.get( 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#transferAll(implementations.MyDLL)}
+	 * into an empty list.
+	 */
+	@Test
+	public void testTransferAll_EmptyTarget()
+	{
+		MyDLL<Integer> source = new MyDLL<>();
+		source.add( one );
+		source.add( two );
+
+		myList.transferAll( source );
+		assertArrayEquals( "Failed to move items.", new Object[] { one, two }, myList.toArray() );
+		assertEquals( "Failed to remove from the tail.", one, myList.remove( 0 ) );
+		assertEquals( "Failed to keep tail.", two, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#splice(implementations.MyDLL, int, int)}
+	 * to move a middle range, a head range and a tail range.
+	 */
+	@Test
+	public void testSplice_Ranges()
+	{
+		MyDLL<Integer> source = new MyDLL<>();
+		for( int i = 0; i < 10; i++ )
+		{
+			source.add( i );
+		}
+
+		myList.splice( source, 3, 6 );
+		assertArrayEquals( "Failed to move middle range.", new Object[] { 3, 4, 5 }, myList.toArray() );
+		assertArrayEquals( "Failed to close gap.", new Object[] { 0, 1, 2, 6, 7, 8, 9 }, source.toArray() );
+
+		myList.splice( source, 0, 2 );
+		myList.splice( source, 3, 5 );
+		assertArrayEquals( "Failed to move head and tail ranges.", new Object[] { 3, 4, 5, 0, 1, 8, 9 }, myList.toArray() );
+		assertArrayEquals( "Failed to keep remainder.", new Object[] { 2, 6, 7 }, source.toArray() );
+		assertEquals( "Failed to update tail.", Integer.valueOf( 7 ), source.get( 2 ) );
+
+		myList.splice( source, 1, 1 );
+		assertEquals( "Failed to ignore empty range.", 3, source.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#splice(implementations.MyDLL, int, int)}
+	 * to reject bad ranges and splicing a list into itself.
+	 */
+	@Test
+	public void testSplice_Exceptions()
+	{
+		MyDLL<Integer> source = new MyDLL<>();
+		source.add( one );
+		try
+		{
+			myList.splice( source, 0, 2 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			myList.splice( myList, 0, 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to leave source unchanged.", 1, source.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDLL#get(int)}
+	 * to stay correct while positional lookups are interleaved with inserts,
+	 * removals and splices that move the cached finger.
+	 */
+	@Test
+	public void testGetInt_FingerAcrossMutations()
+	{
+		java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( i );
+			expected.add( i );
+		}
+		for( int step = 0; step < 5000; step++ )
+		{
+			int op = random.nextInt( 5 );
+			if( op == 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				myList.add( index, step );
+				expected.add( index, step );
+			}
+			else if( op == 1 && expected.size() > 1 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove correct item.", expected.remove( index ), myList.remove( index ) );
+			}
+			else if( op == 2 && expected.size() > 4 )
+			{
+				// Move two items from the middle to the end
+				MyDLL<Integer> other = new MyDLL<>();
+				int from = random.nextInt( expected.size() - 2 );
+				other.splice( myList, from, from + 2 );
+				myList.transferAll( other );
+				java.util.List<Integer> moved = expected.subList( from, from + 2 );
+				java.util.ArrayList<Integer> copy = new java.util.ArrayList<>( moved );
+				moved.clear();
+				expected.addAll( copy );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to get correct item.", expected.get( index ), myList.get( index ) );
+			}
+		}
+		for( int i = 0; i < expected.size(); i++ )
+		{
+			assertEquals( "Failed to get correct item.", expected.get( i ), myList.get( i ) );
+		}
+		for( int i = expected.size() - 1; i >= 0; i-- )
+		{
+			assertEquals( "Failed to get correct item.", expected.get( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDLL#MyDLL(int)}
+	 * to reject a negative pool capacity.
+	 */
+	@Test
+	public void testConstructor_PoolIllegalArgumentException()
+	{
+		try
+		{
+			new MyDLL<Integer>( -1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDLL#MyDLL(int)}
+	 * to keep a pooled list correct while recycled nodes are reused by adds,
+	 * inserts, removals and clears.
+	 */
+	@Test
+	public void testPooledList_Churn()
+	{
+		MyDLL<Integer> pooled = new MyDLL<Integer>( 4 );
+		for( int round = 0; round < 3; round++ )
+		{
+			for( int i = 0; i < 10; i++ )
+			{
+				pooled.add( i );
+			}
+			pooled.remove( 0 );
+			pooled.remove( 8 );
+			pooled.add( 0, 100 );
+			pooled.add( 4, 200 );
+			assertArrayEquals( "Failed to reuse nodes correctly.",
+					new Object[] { 100, 1, 2, 3, 200, 4, 5, 6, 7, 8 }, pooled.toArray() );
+			assertEquals( "Failed to link backwards.", Integer.valueOf( 7 ), pooled.get( 8 ) );
+			pooled.clear();
+			assertTrue( "Failed to clear.", pooled.isEmpty() );
+		}
+	}
+
 	/**
 	 * Test method for {@link implementations.MyDLLt#clear()}
 	 * to clear a non-empty list.
@@ -1325,4 +1529,29 @@ public class DLLTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for {@link implementations.MyDLL#iterator()}
+	 * to throw ConcurrentModificationException once the list is structurally
+	 * modified.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		Iterator<Integer> it = myList.iterator();
+		assertNotNull( "Failed to return first item.", it.next() );
+		myList.remove( 1 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
 }
@@ -0,0 +1,266 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.EmptyStackException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyEliminationStack;
+
+/**
+ * Class Description:
+ * Test for the elimination-backoff implementation of the StackADT. Only push
+ * and pop are overridden; the inherited methods are covered by
+ * LockFreeStackTest. To reach the elimination array without depending on the
+ * machine's core count, some tests use a subclass whose attempts on the top
+ * fail as they would under heavy contention.
+ */
+
+public class EliminationStackTest
+{
+	// Attributes
+	private MyEliminationStack<Integer> stack;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyEliminationStack instance and three Integer instances before
+	 * each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new MyEliminationStack<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyEliminationStack#pop()}
+	 * to return items in last-in first-out order and track the size.
+	 */
+	@Test
+	public void testPushPop_Order()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		assertEquals( "Failed to return correct size.", 3, stack.size() );
+		assertEquals( "Failed to pop top item.", three, stack.pop() );
+		assertEquals( "Failed to peek top item.", two, stack.peek() );
+		assertEquals( "Failed to return correct size.", 2, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyEliminationStack#pop()}
+	 * to throw EmptyStackException on an empty stack.
+	 */
+	@Test
+	public void testPop_EmptyStackException()
+	{
+		try
+		{
+			stack.pop();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyEliminationStack#push(Object)}
+	 * to throw NullPointerException for a null item.
+	 */
+	@Test
+	public void testPush_NullPointerException()
+	{
+		try
+		{
+			stack.push( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyEliminationStack#MyEliminationStack(int)}
+	 * to throw IllegalArgumentException for fewer than one slot.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MyEliminationStack<Integer>( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test of concurrent pushes and pops through a single elimination slot:
+	 * every pushed item is popped exactly once, whether it went through the
+	 * top or was handed over in the elimination array.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testConcurrentPushPop() throws InterruptedException
+	{
+		stack = new MyEliminationStack<Integer>( 1 );
+		final int threads = 4;
+		final int perThread = 20000;
+		final boolean[] seen = new boolean[threads * perThread];
+		final int[] popped = new int[threads];
+		Thread[] workers = new Thread[threads];
+		for( int t = 0; t < threads; t++ )
+		{
+			final int id = t;
+			workers[t] = new Thread( () -> {
+				for( int i = 0; i < perThread; i++ )
+				{
+					stack.push( id * perThread + i );
+					if( i % 2 == 1 )
+					{
+						int value = stack.pop();
+						synchronized( seen )
+						{
+							assertFalse( seen[value] );
+							seen[value] = true;
+						}
+						popped[id]++;
+					}
+				}
+			} );
+			workers[t].start();
+		}
+		for( Thread worker : workers )
+		{
+			worker.join();
+		}
+		int total = 0;
+		for( int count : popped )
+		{
+			total += count;
+		}
+		assertEquals( "Failed to keep size consistent.", threads * perThread - total, stack.size() );
+		while( !stack.isEmpty() )
+		{
+			int value = stack.pop();
+			assertFalse( "Failed to pop each item once.", seen[value] );
+			seen[value] = true;
+		}
+		for( boolean s : seen )
+		{
+			assertTrue( "Failed to keep every item.", s );
+		}
+	}
+
+	/**
+	 * Test of a push and a pop meeting in the elimination array: while every
+	 * attempt on the top loses its race, a push parks its item in the single
+	 * slot and the pop takes it from there, leaving the top untouched.
+	 * @throws Exception
+	 */
+	@Test( timeout = 10000 )
+	public void testPushPop_Eliminated() throws Exception
+	{
+		final ContendedStack contended = new ContendedStack();
+		contended.push( one );
+		contended.lostRaces.set( Integer.MAX_VALUE );
+
+		Thread pusher = new Thread( () -> contended.push( two ) );
+		pusher.start();
+		Integer popped = contended.pop();
+		pusher.join();
+
+		assertEquals( "Failed to hand item from push to pop.", two, popped );
+		assertEquals( "Failed to leave top untouched.", 1, contended.size() );
+		assertEquals( "Failed to leave top untouched.", one, contended.peek() );
+		assertNull( "Failed to free elimination slot.", slots( contended ).get( 0 ) );
+	}
+
+	/**
+	 * Test of a push whose item is not taken from the elimination array: it
+	 * withdraws the item and pushes it onto the top once the contention ends.
+	 * @throws Exception
+	 */
+	@Test
+	public void testPush_WithdrawsUntakenItem() throws Exception
+	{
+		ContendedStack contended = new ContendedStack();
+		contended.lostRaces.set( 3 );
+
+		contended.push( one );
+
+		assertEquals( "Failed to push withdrawn item.", 1, contended.size() );
+		assertNull( "Failed to free elimination slot.", slots( contended ).get( 0 ) );
+		assertEquals( "Failed to pop withdrawn item.", one, contended.pop() );
+	}
+
+	/**
+	 * Reads the elimination array of a stack.
+	 */
+	private static AtomicReferenceArray<?> slots( MyEliminationStack<?> target ) throws Exception
+	{
+		Field slots = MyEliminationStack.class.getDeclaredField( "slots" );
+		slots.setAccessible( true );
+		return (AtomicReferenceArray<?>) slots.get( target );
+	}
+
+	/**
+	 * A stack with one elimination slot whose attempts on the top lose their
+	 * race while lostRaces is positive, as if other threads kept changing it.
+	 */
+	private static final class ContendedStack extends MyEliminationStack<Integer>
+	{
+		final AtomicInteger lostRaces = new AtomicInteger();
+
+		ContendedStack()
+		{
+			super( 1 );
+		}
+
+		@Override
+		protected boolean tryPush( Integer toAdd )
+		{
+			return lostRaces.getAndDecrement() <= 0 && super.tryPush( toAdd );
+		}
+
+		@Override
+		protected Integer tryPop()
+		{
+			return lostRaces.getAndDecrement() <= 0 ? super.tryPop() : null;
+		}
+	}
+}
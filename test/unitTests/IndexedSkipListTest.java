@@ -0,0 +1,269 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyIndexedSkipList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the indexable skip list implementation of the ListADT. The levels
+ * are read through reflection to check the span recorded on every link and
+ * the number of levels in use.
+ */
+
+public class IndexedSkipListTest
+{
+	// Attributes
+	private MyIndexedSkipList<Integer> myList;
+
+	/**
+	 * Initializes a MyIndexedSkipList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyIndexedSkipList<Integer>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test of an empty list to use a single level.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testLevel_Empty() throws Exception
+	{
+		assertEquals( "Failed to start on one level.", 1, checkLevels() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIndexedSkipList#add(int, Object)}
+	 * to keep every span equal to the number of positions it skips while
+	 * elements are inserted at random positions, with enough elements that
+	 * several express levels are in use.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testAddIndex_Spans() throws Exception
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		Random random = new Random( 304 );
+		for( int i = 0; i < 500; i++ )
+		{
+			int index = random.nextInt( expected.size() + 1 );
+			expected.add( index, i );
+			myList.add( index, i );
+			checkLevels();
+		}
+		assertTrue( "Failed to use several levels.", checkLevels() >= 3 );
+		for( int i = 0; i < expected.size(); i++ )
+		{
+			assertEquals( "Failed to get same element.", expected.get( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIndexedSkipList#remove(int)}
+	 * to keep every span equal to the number of positions it skips while
+	 * elements are removed at random positions until the list is empty.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRemoveInt_Spans() throws Exception
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		for( int i = 0; i < 500; i++ )
+		{
+			expected.add( i );
+			myList.add( i );
+		}
+		assertTrue( "Failed to use several levels.", checkLevels() >= 3 );
+
+		Random random = new Random( 304 );
+		while( !expected.isEmpty() )
+		{
+			int index = random.nextInt( expected.size() );
+			assertEquals( "Failed to remove same element.", expected.remove( index ), myList.remove( index ) );
+			checkLevels();
+			if( !expected.isEmpty() )
+			{
+				index = random.nextInt( expected.size() );
+				assertEquals( "Failed to get same element.", expected.get( index ), myList.get( index ) );
+			}
+		}
+		assertEquals( "Failed to return to one level.", 1, checkLevels() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIndexedSkipList#remove(Object)}
+	 * to drop the top level once the last node reaching it is removed, down to
+	 * the height of the tallest remaining node.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRemoveE_ShrinksLevelWhenTopEmpties() throws Exception
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		int level = checkLevels();
+		assertTrue( "Failed to use several levels.", level > 1 );
+
+		ArrayList<Integer> top = new ArrayList<Integer>();
+		for( Object node = next( field( myList, "head" ), level - 1 ); node != null; node = next( node, level - 1 ) )
+		{
+			top.add( (Integer) field( node, "data" ) );
+		}
+		assertFalse( "Failed to find nodes on top level.", top.isEmpty() );
+
+		for( int i = 0; i < top.size() - 1; i++ )
+		{
+			myList.remove( top.get( i ) );
+			assertEquals( "Failed to keep a level still in use.", level, checkLevels() );
+		}
+		myList.remove( top.get( top.size() - 1 ) );
+		assertTrue( "Failed to drop emptied top level.", checkLevels() < level );
+		assertEquals( "Failed to keep remaining elements.", 1000 - top.size(), myList.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIndexedSkipList#clear()}
+	 * to return to a single level.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testClear_ResetsLevel() throws Exception
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		assertTrue( "Failed to use several levels.", checkLevels() > 1 );
+
+		myList.clear();
+
+		assertEquals( "Failed to reset to one level.", 1, checkLevels() );
+		myList.add( 1 );
+		assertEquals( "Failed to add after clear.", Integer.valueOf( 1 ), myList.get( 0 ) );
+		checkLevels();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIndexedSkipList#iterator()}
+	 * to throw ConcurrentModificationException once the list is structurally
+	 * modified.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+		Iterator<Integer> it = myList.iterator();
+		assertNotNull( "Failed to return first item.", it.next() );
+		myList.add( 0, 9 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Checks the levels of myList and returns the number of levels in use.
+	 * Every link on every level must span the distance between its two nodes
+	 * on the bottom level, every node must be linked on each of its levels,
+	 * and the levels in use must be exactly those up to the tallest node.
+	 */
+	private int checkLevels() throws Exception
+	{
+		Object head = field( myList, "head" );
+		int level = (Integer) field( myList, "level" );
+
+		// positions along the bottom level, the head being -1
+		IdentityHashMap<Object, Integer> position = new IdentityHashMap<Object, Integer>();
+		position.put( head, -1 );
+		// onLevel[l] is the number of nodes at least l + 1 levels tall
+		int[] onLevel = new int[height( head )];
+		int tallest = 1;
+		for( Object node = next( head, 0 ); node != null; node = next( node, 0 ) )
+		{
+			position.put( node, position.size() - 1 );
+			for( int l = 0; l < height( node ); l++ )
+			{
+				onLevel[l]++;
+			}
+			tallest = Math.max( tallest, height( node ) );
+		}
+		assertEquals( "Failed to match bottom level with size.", myList.size(), position.size() - 1 );
+		assertEquals( "Failed to use levels up to the tallest node.", tallest, level );
+
+		for( int l = 0; l < height( head ); l++ )
+		{
+			int linked = 0;
+			Object node = head;
+			while( next( node, l ) != null )
+			{
+				Object after = next( node, l );
+				assertEquals( "Failed to keep span on level " + l + ".",
+						position.get( after ) - position.get( node ), span( node, l ) );
+				node = after;
+				linked++;
+			}
+			assertEquals( "Failed to link every node on level " + l + ".", onLevel[l], linked );
+		}
+		return level;
+	}
+
+	private static Object next( Object node, int l ) throws Exception
+	{
+		return ( (Object[]) field( node, "next" ) )[l];
+	}
+
+	private static int span( Object node, int l ) throws Exception
+	{
+		return ( (int[]) field( node, "span" ) )[l];
+	}
+
+	private static int height( Object node ) throws Exception
+	{
+		return ( (Object[]) field( node, "next" ) ).length;
+	}
+
+	/**
+	 * Reads a private field of an implementation object.
+	 */
+	private static Object field( Object target, String name ) throws Exception
+	{
+		Field f = target.getClass().getDeclaredField( name );
+		f.setAccessible( true );
+		return f.get( target );
+	}
+}
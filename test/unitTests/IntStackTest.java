@@ -0,0 +1,201 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import utilities.IntIterator;
+import implementations.IntStack;
+
+/**
+ * Class Description:
+ * Test for the primitive int stack.
+ */
+
+public class IntStackTest
+{
+	// Attributes
+	private IntStack stack;
+
+	/**
+	 * Initializes an IntStack holding 10, 20, 30 (30 on top) before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new IntStack();
+		stack.push( 10 );
+		stack.push( 20 );
+		stack.push( 30 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#IntStack(int)}
+	 * to reject a negative capacity.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new IntStack( -1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#pop()} and
+	 * {@link implementations.IntStack#peek()} to return values last-in first-out.
+	 */
+	@Test
+	public void testPopPeek()
+	{
+		assertEquals( "Failed to peek top value.", 30, stack.peek() );
+		assertEquals( "Failed to pop top value.", 30, stack.pop() );
+		assertEquals( "Failed to pop top value.", 20, stack.pop() );
+		assertEquals( "Failed to return correct size.", 1, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#pop()}
+	 * to throw EmptyStackException once the stack is empty.
+	 */
+	@Test
+	public void testPop_EmptyStackException()
+	{
+		stack.clear();
+		assertTrue( "Failed to clear stack.", stack.isEmpty() );
+		try
+		{
+			stack.pop();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#push(int)}
+	 * to grow from a zero-length array.
+	 */
+	@Test
+	public void testPush_Grow()
+	{
+		IntStack grown = new IntStack( 0 );
+		for( int i = 0; i < 100; i++ )
+		{
+			grown.push( i );
+		}
+		assertEquals( "Failed to return correct size.", 100, grown.size() );
+		assertEquals( "Failed to keep bottom value.", 100, grown.search( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#search(int)} and
+	 * {@link implementations.IntStack#contains(int)}.
+	 */
+	@Test
+	public void testSearchContains()
+	{
+		assertEquals( "Failed to return top position.", 1, stack.search( 30 ) );
+		assertEquals( "Failed to return bottom position.", 3, stack.search( 10 ) );
+		assertEquals( "Failed to return -1.", -1, stack.search( 40 ) );
+		assertTrue( "Failed to find value.", stack.contains( 20 ) );
+		assertFalse( "Failed to miss value.", stack.contains( 40 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#toArray(int[])}
+	 * to copy top to bottom into a large enough array or a new one.
+	 */
+	@Test
+	public void testToArray()
+	{
+		int[] holder = new int[4];
+		assertSame( "Failed to reuse array.", holder, stack.toArray( holder ) );
+		assertArrayEquals( "Failed to copy top to bottom.", new int[] { 30, 20, 10, 0 }, holder );
+		assertArrayEquals( "Failed to copy top to bottom.", new int[] { 30, 20, 10 }, stack.toArray( new int[1] ) );
+		assertArrayEquals( "Failed to copy top to bottom.", new int[] { 30, 20, 10 }, stack.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#iterator()}
+	 * to iterate top to bottom and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		IntIterator it = stack.iterator();
+		assertEquals( "Failed to iterate in order.", 30, it.next() );
+		assertEquals( "Failed to iterate in order.", 20, it.next() );
+		assertEquals( "Failed to iterate in order.", 10, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#equals(IntStack)}.
+	 */
+	@Test
+	public void testEquals()
+	{
+		IntStack other = new IntStack();
+		other.push( 10 );
+		other.push( 20 );
+		assertFalse( "Failed to return false.", stack.equals( other ) );
+		other.push( 30 );
+		assertTrue( "Failed to return true.", stack.equals( other ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#iterator()}
+	 * to throw ConcurrentModificationException once the stack is popped.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		IntIterator it = stack.iterator();
+		assertEquals( "Failed to iterate in order.", 30, it.next() );
+		stack.pop();
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
@@ -0,0 +1,360 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyArrayList;
+import implementations.MyLockFreeQueue;
+import implementations.MyQueue;
+
+/**
+ * Class Description:
+ * Test for the lock-free (Michael-Scott) implementation of the QueueADT.
+ */
+
+public class LockFreeQueueTest
+{
+	// Attributes
+	private MyLockFreeQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyLockFreeQueue instance and three Integer instances before
+	 * each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyLockFreeQueue<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#dequeue()}
+	 * to return elements in first-in first-out order.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_Order() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		assertEquals( "Failed to return correct size.", 3, queue.size() );
+		assertEquals( "Failed to dequeue front item.", one, queue.dequeue() );
+		assertEquals( "Failed to peek front item.", two, queue.peek() );
+		assertEquals( "Failed to dequeue front item.", two, queue.dequeue() );
+		assertEquals( "Failed to return correct size.", 1, queue.size() );
+		assertFalse( "Failed to report full.", queue.isFull() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 */
+	@Test
+	public void testDequeue_EmptyQueueException()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#peek()}
+	 * to throw EmptyQueueException once the last item is dequeued.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testPeek_EmptyQueueException() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.dequeue();
+		try
+		{
+			queue.peek();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#enqueue(Object)}
+	 * to throw NullPointerException for a null item.
+	 */
+	@Test
+	public void testEnqueue_NullPointerException()
+	{
+		try
+		{
+			queue.enqueue( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#dequeueAll()}
+	 * to empty the queue and leave it usable.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeueAll() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeueAll();
+
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+		assertEquals( "Failed to return correct size.", 0, queue.size() );
+		queue.enqueue( three );
+		assertEquals( "Failed to dequeue after clearing.", three, queue.dequeue() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#search(Object)}
+	 * and {@link implementations.MyLockFreeQueue#contains(Object)}.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSearchContains() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.dequeue();
+
+		assertEquals( "Failed to return position.", 2, queue.search( three ) );
+		assertEquals( "Failed to return -1.", -1, queue.search( one ) );
+		assertTrue( "Failed to find item.", queue.contains( two ) );
+		assertFalse( "Failed to miss dequeued item.", queue.contains( one ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#toArray(Object[])}
+	 * to copy front to rear and null-terminate a larger array.
+	 */
+	@Test
+	public void testToArrayEArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Integer[] holder = new Integer[] { 0, 0, 0 };
+
+		assertSame( "Failed to reuse array.", holder, queue.toArray( holder ) );
+		assertArrayEquals( "Failed to copy front to rear.", new Integer[] { one, two, null }, holder );
+		assertArrayEquals( "Failed to copy front to rear.", new Object[] { one, two }, queue.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#iterator()}
+	 * to iterate front to rear and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+
+		assertEquals( "Failed to iterate in order.", one, it.next() );
+		assertEquals( "Failed to iterate in order.", two, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#equals(utilities.QueueADT)}
+	 * to compare against another QueueADT implementation.
+	 */
+	@Test
+	public void testEquals()
+	{
+		MyQueue<Integer> other = new MyQueue<Integer>();
+		queue.enqueue( one );
+		queue.enqueue( two );
+		other.enqueue( one );
+		other.enqueue( two );
+		assertTrue( "Failed to return true.", queue.equals( other ) );
+		other.enqueue( three );
+		assertFalse( "Failed to return false.", queue.equals( other ) );
+	}
+
+	/**
+	 * Test of concurrent producers and consumers: every enqueued item is
+	 * dequeued exactly once, and each producer's items come out in order.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testConcurrentEnqueueDequeue() throws InterruptedException
+	{
+		final int producers = 2;
+		final int consumers = 2;
+		final int perProducer = 20000;
+		final boolean[] seen = new boolean[producers * perProducer];
+		final int[] taken = new int[1];
+		Thread[] workers = new Thread[producers + consumers];
+		for( int p = 0; p < producers; p++ )
+		{
+			final int id = p;
+			workers[p] = new Thread( () -> {
+				for( int i = 0; i < perProducer; i++ )
+				{
+					queue.enqueue( id * perProducer + i );
+				}
+			} );
+		}
+		for( int c = 0; c < consumers; c++ )
+		{
+			workers[producers + c] = new Thread( () -> {
+				int[] lastFrom = new int[producers];
+				java.util.Arrays.fill( lastFrom, -1 );
+				while( true )
+				{
+					synchronized( taken )
+					{
+						if( taken[0] == producers * perProducer )
+						{
+							return;
+						}
+					}
+					int value;
+					try
+					{
+						value = queue.dequeue();
+					}
+					catch( EmptyQueueException e )
+					{
+						continue;
+					}
+					int from = value / perProducer;
+					assertTrue( lastFrom[from] < value );
+					lastFrom[from] = value;
+					synchronized( taken )
+					{
+						assertFalse( seen[value] );
+						seen[value] = true;
+						taken[0]++;
+					}
+				}
+			} );
+		}
+		for( Thread worker : workers )
+		{
+			worker.start();
+		}
+		for( Thread worker : workers )
+		{
+			worker.join();
+		}
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+		for( boolean s : seen )
+		{
+			assertTrue( "Failed to deliver every item.", s );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#drainTo(utilities.ListADT, int)}
+	 * and {@link implementations.MyLockFreeQueue#enqueueAll(utilities.ListADT)}.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDrainToEnqueueAll() throws EmptyQueueException
+	{
+		MyArrayList<Integer> batch = new MyArrayList<Integer>();
+		batch.add( two );
+		batch.add( three );
+		queue.enqueue( one );
+		queue.enqueueAll( batch );
+		queue.enqueue( one );
+
+		MyArrayList<Integer> sink = new MyArrayList<Integer>();
+		assertEquals( "Failed to return number moved.", 3, queue.drainTo( sink, 3 ) );
+		assertArrayEquals( "Failed to append in order.", new Object[] { one, two, three }, sink.toArray() );
+		assertEquals( "Failed to keep remaining item.", one, queue.dequeue() );
+		assertEquals( "Failed to return number moved.", 0, queue.drainTo( sink, 3 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeQueue#drainTo(utilities.ListADT, int)}
+	 * to lose only the item a failing sink rejected, as documented, and keep the
+	 * rest in order.
+	 */
+	@Test
+	public void testDrainTo_FailingSink()
+	{
+		MyArrayList<Integer> sink = new MyArrayList<Integer>()
+		{
+			@Override
+			public boolean add( Integer toAdd )
+			{
+				if( size() == 1 )
+				{
+					throw new IllegalStateException( "Sink is full" );
+				}
+				return super.add( toAdd );
+			}
+		};
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		try
+		{
+			queue.drainTo( sink, 3 );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertArrayEquals( "Failed to move accepted item.", new Object[] { one }, sink.toArray() );
+		assertArrayEquals( "Failed to keep items not yet removed.", new Object[] { three }, queue.toArray() );
+	}
+}
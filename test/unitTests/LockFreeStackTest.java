@@ -0,0 +1,243 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyLockFreeStack;
+import implementations.MyStack;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the lock-free (Treiber) implementation of the StackADT.
+ */
+
+public class LockFreeStackTest
+{
+	// Attributes
+	private MyLockFreeStack<Integer> stack;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MyLockFreeStack instance and three Integer instances before
+	 * each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new MyLockFreeStack<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeStack#pop()}
+	 * to return items in last-in first-out order and track the size.
+	 */
+	@Test
+	public void testPushPop_Order()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		assertEquals( "Failed to return correct size.", 3, stack.size() );
+		assertEquals( "Failed to pop top item.", three, stack.pop() );
+		assertEquals( "Failed to peek top item.", two, stack.peek() );
+		assertEquals( "Failed to return correct size.", 2, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeStack#pop()}
+	 * to throw EmptyStackException on an empty stack.
+	 */
+	@Test
+	public void testPop_EmptyStackException()
+	{
+		try
+		{
+			stack.pop();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeStack#push(Object)}
+	 * to throw NullPointerException for a null item.
+	 */
+	@Test
+	public void testPush_NullPointerException()
+	{
+		try
+		{
+			stack.push( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeStack#search(Object)},
+	 * {@link implementations.MyLockFreeStack#contains(Object)} and
+	 * {@link implementations.MyLockFreeStack#clear()}.
+	 */
+	@Test
+	public void testSearchContainsClear()
+	{
+		stack.push( one );
+		stack.push( two );
+
+		assertEquals( "Failed to return position.", 2, stack.search( one ) );
+		assertEquals( "Failed to return -1.", -1, stack.search( three ) );
+		assertTrue( "Failed to find item.", stack.contains( two ) );
+		stack.clear();
+		assertTrue( "Failed to clear.", stack.isEmpty() );
+		assertEquals( "Failed to return correct size.", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeStack#toArray(Object[])}
+	 * to copy top to bottom and null-terminate a larger array.
+	 */
+	@Test
+	public void testToArray()
+	{
+		stack.push( one );
+		stack.push( two );
+		Integer[] holder = new Integer[] { 0, 0, 0 };
+
+		assertSame( "Failed to reuse array.", holder, stack.toArray( holder ) );
+		assertArrayEquals( "Failed to copy top to bottom.", new Integer[] { two, one, null }, holder );
+		assertArrayEquals( "Failed to copy top to bottom.", new Object[] { two, one }, stack.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeStack#iterator()}
+	 * to iterate the stack as it was when the iterator was created.
+	 */
+	@Test
+	public void testIterator_Snapshot()
+	{
+		stack.push( one );
+		stack.push( two );
+		Iterator<Integer> it = stack.iterator();
+		stack.pop();
+		stack.push( three );
+
+		assertEquals( "Failed to iterate snapshot.", two, it.next() );
+		assertEquals( "Failed to iterate snapshot.", one, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLockFreeStack#equals(utilities.StackADT)}
+	 * to compare against another StackADT implementation.
+	 */
+	@Test
+	public void testEquals()
+	{
+		MyStack<Integer> other = new MyStack<Integer>();
+		stack.push( one );
+		stack.push( two );
+		other.push( one );
+		other.push( two );
+		assertTrue( "Failed to return true.", stack.equals( other ) );
+		other.pop();
+		assertFalse( "Failed to return false.", stack.equals( other ) );
+	}
+
+	/**
+	 * Test of concurrent pushes and pops: every pushed item is popped exactly
+	 * once.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testConcurrentPushPop() throws InterruptedException
+	{
+		final int threads = 4;
+		final int perThread = 20000;
+		final boolean[] seen = new boolean[threads * perThread];
+		final int[] popped = new int[threads];
+		Thread[] workers = new Thread[threads];
+		for( int t = 0; t < threads; t++ )
+		{
+			final int id = t;
+			workers[t] = new Thread( () -> {
+				for( int i = 0; i < perThread; i++ )
+				{
+					stack.push( id * perThread + i );
+					if( i % 2 == 1 )
+					{
+						int value = stack.pop();
+						synchronized( seen )
+						{
+							assertFalse( seen[value] );
+							seen[value] = true;
+						}
+						popped[id]++;
+					}
+				}
+			} );
+			workers[t].start();
+		}
+		for( Thread worker : workers )
+		{
+			worker.join();
+		}
+		int total = 0;
+		for( int count : popped )
+		{
+			total += count;
+		}
+		assertEquals( "Failed to keep size consistent.", threads * perThread - total, stack.size() );
+		while( !stack.isEmpty() )
+		{
+			int value = stack.pop();
+			assertFalse( "Failed to pop each item once.", seen[value] );
+			seen[value] = true;
+		}
+		for( boolean s : seen )
+		{
+			assertTrue( "Failed to keep every item.", s );
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import utilities.LongIterator;
+import implementations.LongArrayList;
+
+/**
+ * Class Description:
+ * Test for the primitive long array list.
+ */
+
+public class LongArrayListTest
+{
+	// Attributes
+	private LongArrayList myList;
+
+	/**
+	 * Initializes an LongArrayList holding 10, 20, 30 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new LongArrayList();
+		myList.add( 10 );
+		myList.add( 20 );
+		myList.add( 30 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(int, long)}
+	 * to insert in the middle and shift later elements right.
+	 */
+	@Test
+	public void testAddIndex()
+	{
+		myList.add( 1, 15 );
+
+		assertEquals( "Failed to return correct size.", 4, myList.size() );
+		assertEquals( "Failed to insert element.", 15, myList.get( 1 ) );
+		assertEquals( "Failed to shift element.", 20, myList.get( 2 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(int, long)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test
+	public void testAddIndex_IndexOutOfBoundsException()
+	{
+		try
+		{
+			myList.add( 4, 40 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(long)}
+	 * to grow past the initial capacity.
+	 */
+	@Test
+	public void testAdd_Grow()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to return correct size.", 1003, myList.size() );
+		assertEquals( "Failed to keep element.", 999, myList.get( 1002 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#addAll(implementations.LongArrayList)}
+	 * to append every element of another list.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		LongArrayList other = new LongArrayList();
+		other.add( 40 );
+		other.add( 50 );
+
+		assertTrue( "Failed to return true.", myList.addAll( other ) );
+		assertEquals( "Failed to return correct size.", 5, myList.size() );
+		assertEquals( "Failed to append element.", 50, myList.get( 4 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#remove(int)} and
+	 * {@link implementations.LongArrayList#removeValue(long)}
+	 * to remove by index and by value.
+	 */
+	@Test
+	public void testRemove()
+	{
+		assertEquals( "Failed to return removed element.", 10, myList.remove( 0 ) );
+		assertTrue( "Failed to remove value.", myList.removeValue( 30 ) );
+		assertFalse( "Failed to miss value.", myList.removeValue( 30 ) );
+		assertEquals( "Failed to return correct size.", 1, myList.size() );
+		assertEquals( "Failed to keep element.", 20, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#get(int)}
+	 * to throw IndexOutOfBoundsException at the size.
+	 */
+	@Test
+	public void testGet_IndexOutOfBoundsException()
+	{
+		try
+		{
+			myList.get( 3 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#set(int, long)}
+	 * to replace an element and return the old one.
+	 */
+	@Test
+	public void testSet()
+	{
+		assertEquals( "Failed to return old element.", 20, myList.set( 1, 25 ) );
+		assertEquals( "Failed to set element.", 25, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#contains(long)} and
+	 * {@link implementations.LongArrayList#clear()}.
+	 */
+	@Test
+	public void testContainsClear()
+	{
+		assertTrue( "Failed to find element.", myList.contains( 20 ) );
+		assertFalse( "Failed to miss element.", myList.contains( 25 ) );
+		myList.clear();
+		assertTrue( "Failed to clear.", myList.isEmpty() );
+		assertFalse( "Failed to miss cleared element.", myList.contains( 20 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#toArray(long[])}
+	 * to reuse a large enough array and allocate otherwise.
+	 */
+	@Test
+	public void testToArray()
+	{
+		long[] holder = new long[5];
+		assertSame( "Failed to reuse array.", holder, myList.toArray( holder ) );
+		assertEquals( "Failed to copy element.", 30, holder[2] );
+		assertArrayEquals( "Failed to copy elements.", new long[] { 10, 20, 30 }, myList.toArray( new long[1] ) );
+		assertArrayEquals( "Failed to copy elements.", new long[] { 10, 20, 30 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#iterator()}
+	 * to return every element in order and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		LongIterator it = myList.iterator();
+		assertEquals( "Failed to iterate in order.", 10, it.next() );
+		assertEquals( "Failed to iterate in order.", 20, it.next() );
+		assertEquals( "Failed to iterate in order.", 30, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#iterator()}
+	 * to throw ConcurrentModificationException once the list is structurally
+	 * modified.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		LongIterator it = myList.iterator();
+		assertEquals( "Failed to iterate in order.", 10, it.next() );
+		myList.remove( 0 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
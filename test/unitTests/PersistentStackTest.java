@@ -0,0 +1,235 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import utilities.Iterator;
+import implementations.MyPersistentStack;
+import implementations.MyStack;
+
+/**
+ * Class Description:
+ * Test for the persistent, structurally-shared stack.
+ */
+
+public class PersistentStackTest
+{
+	// Attributes
+	private MyPersistentStack<Integer> stack;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a version holding one and two (two on top) and three Integer
+	 * instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		one = 111;
+		two = 222;
+		three = 333;
+		stack = MyPersistentStack.<Integer>empty().push( one ).push( two );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyPersistentStack#push(Object)}
+	 * and {@link implementations.MyPersistentStack#pop()} to return new versions
+	 * and leave the original unchanged.
+	 */
+	@Test
+	public void testPushPop_Versions()
+	{
+		MyPersistentStack<Integer> pushed = stack.push( three );
+		MyPersistentStack<Integer> popped = stack.pop();
+
+		assertEquals( "Failed to return correct size.", 3, pushed.size() );
+		assertEquals( "Failed to peek pushed item.", three, pushed.peek() );
+		assertEquals( "Failed to return correct size.", 1, popped.size() );
+		assertEquals( "Failed to peek item underneath.", one, popped.peek() );
+		assertEquals( "Failed to keep original size.", 2, stack.size() );
+		assertEquals( "Failed to keep original top.", two, stack.peek() );
+		assertTrue( "Failed to return empty version.", popped.pop().isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyPersistentStack#pop()} and
+	 * {@link implementations.MyPersistentStack#peek()} to throw
+	 * EmptyStackException on the empty version.
+	 */
+	@Test
+	public void testPopPeek_EmptyStackException()
+	{
+		MyPersistentStack<Integer> empty = MyPersistentStack.empty();
+		try
+		{
+			empty.pop();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			empty.peek();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyPersistentStack#push(Object)}
+	 * to throw NullPointerException for a null item.
+	 */
+	@Test
+	public void testPush_NullPointerException()
+	{
+		try
+		{
+			stack.push( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyPersistentStack#search(Object)}
+	 * and {@link implementations.MyPersistentStack#contains(Object)}.
+	 */
+	@Test
+	public void testSearchContains()
+	{
+		assertEquals( "Failed to return top position.", 1, stack.search( two ) );
+		assertEquals( "Failed to return bottom position.", 2, stack.search( one ) );
+		assertEquals( "Failed to return -1.", -1, stack.search( three ) );
+		assertTrue( "Failed to find item.", stack.contains( one ) );
+		assertFalse( "Failed to miss item.", stack.contains( three ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyPersistentStack#toArray(Object[])}
+	 * to copy top to bottom and null-terminate a larger array.
+	 */
+	@Test
+	public void testToArray()
+	{
+		Integer[] holder = new Integer[] { 0, 0, 0 };
+
+		assertSame( "Failed to reuse array.", holder, stack.toArray( holder ) );
+		assertArrayEquals( "Failed to copy top to bottom.", new Integer[] { two, one, null }, holder );
+		assertArrayEquals( "Failed to copy top to bottom.", new Object[] { two, one }, stack.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyPersistentStack#iterator()}
+	 * to iterate an old version after newer versions have been made.
+	 */
+	@Test
+	public void testIterator_OldVersion()
+	{
+		Iterator<Integer> it = stack.iterator();
+		stack.pop().pop();
+		stack.push( three );
+
+		assertEquals( "Failed to iterate in order.", two, it.next() );
+		assertEquals( "Failed to iterate in order.", one, it.next() );
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyPersistentStack#equals(MyPersistentStack)}
+	 * and {@link implementations.MyPersistentStack#equals(utilities.StackADT)}.
+	 */
+	@Test
+	public void testEquals()
+	{
+		MyPersistentStack<Integer> rebuilt = MyPersistentStack.<Integer>empty().push( one ).push( two );
+		assertTrue( "Failed to return true.", stack.equals( rebuilt ) );
+		assertTrue( "Failed to return true.", stack.push( three ).pop().equals( stack ) );
+		assertFalse( "Failed to return false.", stack.equals( stack.pop().push( three ) ) );
+
+		MyStack<Integer> other = new MyStack<Integer>();
+		other.push( one );
+		other.push( two );
+		assertTrue( "Failed to return true.", stack.equals( other ) );
+		other.push( three );
+		assertFalse( "Failed to return false.", stack.equals( other ) );
+	}
+
+	/**
+	 * Test of backtracking: a thread reads snapshots taken at every depth while
+	 * the main thread keeps pushing from one of them.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testSnapshots_ConcurrentReaders() throws InterruptedException
+	{
+		final int depth = 1000;
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		final MyPersistentStack<Integer>[] snapshots = new MyPersistentStack[depth + 1];
+		MyPersistentStack<Integer> current = MyPersistentStack.empty();
+		snapshots[0] = current;
+		for( int i = 1; i <= depth; i++ )
+		{
+			current = current.push( i );
+			snapshots[i] = current;
+		}
+		final boolean[] failed = new boolean[1];
+		Thread reader = new Thread( () -> {
+			for( int i = 0; i <= depth; i++ )
+			{
+				if( snapshots[i].size() != i || ( i > 0 && snapshots[i].peek() != i ) )
+				{
+					failed[0] = true;
+				}
+			}
+		} );
+		reader.start();
+		MyPersistentStack<Integer> branch = snapshots[depth / 2];
+		for( int i = 0; i < depth; i++ )
+		{
+			branch = branch.push( -i );
+		}
+		reader.join();
+		assertFalse( "Failed to keep snapshots unchanged.", failed[0] );
+		assertEquals( "Failed to return correct size.", depth + depth / 2, branch.size() );
+		assertEquals( "Failed to keep the shared elements.", depth + 1, branch.search( depth / 2 ) );
+	}
+}
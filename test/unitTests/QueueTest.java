@@ -2,6 +2,7 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import org.junit.After;
@@ -10,6 +11,8 @@ import org.junit.Test;
 
 import exceptions.EmptyQueueException;
 import utilities.Iterator;
+import implementations.MyArrayList;
+import implementations.MyDLL;
 import implementations.MyQueue;
 
 /**
@@ -611,6 +614,233 @@ public class QueueTest
 			actualIndex = queue.search( five ); 
 			
 			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
-		} 
- 
+		}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#search(java.lang.Object)}
+	 * to return the position of the first of several equal items.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSearch_Duplicates() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( one );
+		queue.dequeue();
+
+		assertEquals( "Failed to return front-most position.", 2, queue.search( one ) );
+		assertEquals( "Failed to return -1 for null.", -1, queue.search( null ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#contains(java.lang.Object)}
+	 * on an indexed queue to track duplicates through dequeue and dequeueAll.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testContains_Indexed() throws EmptyQueueException
+	{
+		MyQueue<Integer> indexed = new MyQueue<Integer>( true );
+		indexed.enqueue( one );
+		indexed.enqueue( two );
+		indexed.enqueue( one );
+
+		assertTrue( "Failed to find item.", indexed.contains( one ) );
+		indexed.dequeue();
+		assertTrue( "Failed to keep duplicate.", indexed.contains( one ) );
+		assertEquals( "Failed to return position.", 2, indexed.search( one ) );
+		indexed.dequeue();
+		indexed.dequeue();
+		assertFalse( "Failed to forget dequeued item.", indexed.contains( one ) );
+		assertEquals( "Failed to return -1.", -1, indexed.search( one ) );
+
+		indexed.enqueue( three );
+		indexed.dequeueAll();
+		assertFalse( "Failed to clear index.", indexed.contains( three ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#drainTo(utilities.ListADT, int)}
+	 * to splice the front items onto a MyDLL sink and keep the rest.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDrainTo_MyDLL() throws EmptyQueueException
+	{
+		MyDLL<Integer> sink = new MyDLL<Integer>();
+		sink.add( five );
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		assertEquals( "Failed to return number moved.", 2, queue.drainTo( sink, 2 ) );
+		assertArrayEquals( "Failed to append in order.", new Object[] { five, one, two }, sink.toArray() );
+		assertEquals( "Failed to keep remaining item.", three, queue.dequeue() );
+		assertEquals( "Failed to return number moved.", 0, queue.drainTo( sink, 5 ) );
+		sink.add( four );
+		assertEquals( "Failed to keep sink linked.", four, sink.get( 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#drainTo(utilities.ListADT, int)}
+	 * to move everything into another ListADT and update the index.
+	 */
+	@Test
+	public void testDrainTo_Indexed()
+	{
+		MyQueue<Integer> indexed = new MyQueue<Integer>( true );
+		MyArrayList<Integer> sink = new MyArrayList<Integer>();
+		indexed.enqueue( one );
+		indexed.enqueue( two );
+
+		assertEquals( "Failed to return number moved.", 2, indexed.drainTo( sink, 10 ) );
+		assertArrayEquals( "Failed to append in order.", new Object[] { one, two }, sink.toArray() );
+		assertTrue( "Failed to empty queue.", indexed.isEmpty() );
+		assertFalse( "Failed to update index.", indexed.contains( one ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#drainTo(utilities.ListADT, int)}
+	 * to keep the index in step with the queue when the sink fails partway.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDrainTo_FailingSink() throws EmptyQueueException
+	{
+		MyQueue<Integer> indexed = new MyQueue<Integer>( true );
+		MyArrayList<Integer> sink = new MyArrayList<Integer>()
+		{
+			@Override
+			public boolean add( Integer toAdd )
+			{
+				if( size() == 1 )
+				{
+					throw new IllegalStateException( "Sink is full" );
+				}
+				return super.add( toAdd );
+			}
+		};
+		indexed.enqueue( one );
+		indexed.enqueue( two );
+		indexed.enqueue( three );
+		try
+		{
+			indexed.drainTo( sink, 3 );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertArrayEquals( "Failed to move accepted item.", new Object[] { one }, sink.toArray() );
+		assertFalse( "Failed to update index.", indexed.contains( one ) );
+		assertTrue( "Failed to keep rejected item indexed.", indexed.contains( two ) );
+		assertTrue( "Failed to keep remaining item indexed.", indexed.contains( three ) );
+		assertEquals( "Failed to keep rejected item.", two, indexed.dequeue() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#enqueueAll(utilities.ListADT)}
+	 * to add items in list order and leave the source unchanged.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueueAll() throws EmptyQueueException
+	{
+		MyDLL<Integer> source = new MyDLL<Integer>();
+		source.add( two );
+		source.add( three );
+		queue.enqueue( one );
+		queue.enqueueAll( source );
+
+		assertEquals( "Failed to return correct size.", 3, queue.size() );
+		assertEquals( "Failed to keep source.", 2, source.size() );
+		assertEquals( "Failed to keep order.", one, queue.dequeue() );
+		assertEquals( "Failed to keep order.", two, queue.dequeue() );
+		try
+		{
+			queue.enqueueAll( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#MyQueue(int)}
+	 * to keep first-in first-out order while dequeued nodes are recycled.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testPooledQueue_Churn() throws EmptyQueueException
+	{
+		MyQueue<Integer> pooled = new MyQueue<Integer>( 2 );
+		pooled.enqueue( one );
+		pooled.enqueue( two );
+		for( int i = 0; i < 100; i++ )
+		{
+			pooled.enqueue( i );
+			pooled.dequeue();
+		}
+		assertEquals( "Failed to return correct size.", 2, pooled.size() );
+		assertEquals( "Failed to keep order.", Integer.valueOf( 98 ), pooled.dequeue() );
+		assertEquals( "Failed to keep order.", Integer.valueOf( 99 ), pooled.peek() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#MyQueue(boolean, int)}
+	 * to keep the index correct while dequeued nodes are recycled.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIndexedPooledQueue_Churn() throws EmptyQueueException
+	{
+		MyQueue<Integer> both = new MyQueue<Integer>( true, 2 );
+		for( int i = 0; i < 100; i++ )
+		{
+			both.enqueue( i );
+			both.enqueue( i );
+			both.dequeue();
+			both.dequeue();
+		}
+		both.enqueue( one );
+		assertTrue( "Failed to find item.", both.contains( one ) );
+		assertFalse( "Failed to drop dequeued item.", both.contains( 99 ) );
+		assertEquals( "Failed to return correct size.", 1, both.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyQueue#iterator()}
+	 * to throw ConcurrentModificationException once the queue is structurally
+	 * modified.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+		assertNotNull( "Failed to return first item.", it.next() );
+		queue.enqueue( three );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
 }
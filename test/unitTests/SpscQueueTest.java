@@ -0,0 +1,281 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyArrayList;
+import implementations.MyQueue;
+import implementations.MySpscQueue;
+
+/**
+ * Class Description:
+ * Test for the single-producer/single-consumer ring implementation of the QueueADT.
+ */
+
+public class SpscQueueTest
+{
+	// Attributes
+	private MySpscQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+
+	/**
+	 * Initializes a MySpscQueue instance with capacity three and three Integer
+	 * instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MySpscQueue<Integer>( 3 );
+		one = 111;
+		two = 222;
+		three = 333;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#MySpscQueue(int)}
+	 * to reject a capacity below one.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MySpscQueue<Integer>( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#dequeue()}
+	 * to return elements in first-in first-out order across the wrap point.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_OrderAndWrap() throws EmptyQueueException
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			queue.enqueue( i );
+			queue.enqueue( i + 100 );
+			assertEquals( "Failed to dequeue front item.", Integer.valueOf( i ), queue.dequeue() );
+			assertEquals( "Failed to peek front item.", Integer.valueOf( i + 100 ), queue.peek() );
+			assertEquals( "Failed to dequeue front item.", Integer.valueOf( i + 100 ), queue.dequeue() );
+		}
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 */
+	@Test
+	public void testDequeue_EmptyQueueException()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#isFull()}
+	 * to return true at capacity and for {@link implementations.MySpscQueue#offer(Object)}
+	 * and {@link implementations.MySpscQueue#enqueue(Object)} to reject further items.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIsFull_AtCapacity() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		assertFalse( "Failed to report not full.", queue.isFull() );
+		assertTrue( "Failed to accept item.", queue.offer( three ) );
+		assertTrue( "Failed to report full.", queue.isFull() );
+		assertFalse( "Failed to reject item.", queue.offer( one ) );
+		try
+		{
+			queue.enqueue( one );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		queue.dequeue();
+		assertFalse( "Failed to report not full.", queue.isFull() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#poll()}
+	 * to return null on an empty queue.
+	 */
+	@Test
+	public void testPoll_Empty()
+	{
+		assertNull( "Failed to return null.", queue.poll() );
+		queue.enqueue( one );
+		assertEquals( "Failed to poll front item.", one, queue.poll() );
+		assertNull( "Failed to return null.", queue.poll() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#dequeueAll()}
+	 * to empty the queue and leave it usable.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeueAll() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeueAll();
+
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+		assertEquals( "Failed to return correct size.", 0, queue.size() );
+		queue.enqueue( three );
+		assertEquals( "Failed to dequeue after clearing.", three, queue.dequeue() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#search(Object)},
+	 * {@link implementations.MySpscQueue#toArray(Object[])} and
+	 * {@link implementations.MySpscQueue#iterator()}.
+	 */
+	@Test
+	public void testSearchToArrayIterator()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Integer[] holder = new Integer[] { 0, 0, 0 };
+
+		assertEquals( "Failed to return position.", 2, queue.search( two ) );
+		assertEquals( "Failed to return -1.", -1, queue.search( three ) );
+		assertSame( "Failed to reuse array.", holder, queue.toArray( holder ) );
+		assertArrayEquals( "Failed to copy front to rear.", new Integer[] { one, two, null }, holder );
+		Iterator<Integer> it = queue.iterator();
+		assertEquals( "Failed to iterate in order.", one, it.next() );
+		assertEquals( "Failed to iterate in order.", two, it.next() );
+		try
+		{
+			it.next();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#equals(utilities.QueueADT)}
+	 * to compare against another QueueADT implementation.
+	 */
+	@Test
+	public void testEquals()
+	{
+		MyQueue<Integer> other = new MyQueue<Integer>();
+		queue.enqueue( one );
+		queue.enqueue( two );
+		other.enqueue( one );
+		other.enqueue( two );
+		assertTrue( "Failed to return true.", queue.equals( other ) );
+		other.enqueue( three );
+		assertFalse( "Failed to return false.", queue.equals( other ) );
+	}
+
+	/**
+	 * Test of one producer and one consumer: every item arrives once and in
+	 * order.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testProducerConsumer() throws InterruptedException
+	{
+		final int count = 100000;
+		final MySpscQueue<Integer> ring = new MySpscQueue<Integer>( 64 );
+		Thread producer = new Thread( () -> {
+			for( int i = 0; i < count; i++ )
+			{
+				while( !ring.offer( i ) )
+				{
+					Thread.yield();
+				}
+			}
+		} );
+		producer.start();
+		for( int i = 0; i < count; i++ )
+		{
+			Integer value;
+			while( ( value = ring.poll() ) == null )
+			{
+				Thread.yield();
+			}
+			assertEquals( "Failed to deliver in order.", i, value.intValue() );
+		}
+		producer.join();
+		assertTrue( "Failed to empty queue.", ring.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySpscQueue#drainTo(utilities.ListADT, int)}
+	 * and {@link implementations.MySpscQueue#enqueueAll(utilities.ListADT)},
+	 * including a batch that does not fit.
+	 */
+	@Test
+	public void testDrainToEnqueueAll()
+	{
+		MyArrayList<Integer> batch = new MyArrayList<Integer>();
+		batch.add( two );
+		batch.add( three );
+		queue.enqueue( one );
+		queue.enqueueAll( batch );
+		assertTrue( "Failed to report full.", queue.isFull() );
+		try
+		{
+			queue.enqueueAll( batch );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+
+		MyArrayList<Integer> sink = new MyArrayList<Integer>();
+		assertEquals( "Failed to return number moved.", 2, queue.drainTo( sink, 2 ) );
+		assertArrayEquals( "Failed to append in order.", new Object[] { one, two }, sink.toArray() );
+		queue.enqueueAll( batch );
+		assertArrayEquals( "Failed to keep order.", new Object[] { three, two, three }, queue.toArray() );
+	}
+}
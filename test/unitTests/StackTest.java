@@ -2,8 +2,10 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.util.ConcurrentModificationException;
 import java.util.EmptyStackException;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
@@ -649,4 +651,175 @@ public class StackTest
 	{
 		assertFalse(stack.stackOverflow());
 	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#MyStack(int)}
+	 * to reject a capacity below one.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MyStack<Integer>( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#stackOverflow()}
+	 * to return true once a fixed-capacity stack is full, and for
+	 * {@link implementations.MyStack#push(Object)} to reject further items.
+	 */
+	@Test
+	public void testStackoverflow_FixedCapacity()
+	{
+		MyStack<Integer> bounded = new MyStack<Integer>( 2 );
+		bounded.push( one );
+		assertFalse( "Failed to report not full.", bounded.stackOverflow() );
+		bounded.push( two );
+		assertTrue( "Failed to report full.", bounded.stackOverflow() );
+		try
+		{
+			bounded.push( three );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to pop top item.", two, bounded.pop() );
+		assertFalse( "Failed to report not full.", bounded.stackOverflow() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#push(Object)} and
+	 * {@link implementations.MyStack#pop()} to grow past the initial array and
+	 * shrink back in order.
+	 */
+	@Test
+	public void testPushPop_Grow()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			stack.push( i );
+		}
+		assertEquals( "Failed to return correct size", 100, stack.size() );
+		assertEquals( "Failed to return position.", 100, stack.search( 0 ) );
+		for( int i = 99; i >= 0; i-- )
+		{
+			assertEquals( "Failed to pop top item.", Integer.valueOf( i ), stack.pop() );
+		}
+		assertTrue( "Failed to empty stack.", stack.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#contains(Object)} and
+	 * {@link implementations.MyStack#search(Object)} on an indexed stack to
+	 * track duplicates through pop and clear.
+	 */
+	@Test
+	public void testSearchContains_Indexed()
+	{
+		MyStack<Integer> indexed = new MyStack<Integer>( true );
+		indexed.push( one );
+		indexed.push( two );
+		indexed.push( one );
+		indexed.push( three );
+
+		assertEquals( "Failed to return nearest position.", 2, indexed.search( one ) );
+		assertEquals( "Failed to return -1.", -1, indexed.search( four ) );
+		indexed.pop();
+		indexed.pop();
+		assertEquals( "Failed to return remaining position.", 2, indexed.search( one ) );
+		assertTrue( "Failed to keep duplicate.", indexed.contains( one ) );
+		assertFalse( "Failed to drop popped item.", indexed.contains( three ) );
+		indexed.clear();
+		assertFalse( "Failed to clear index.", indexed.contains( one ) );
+		indexed.push( one );
+		assertEquals( "Failed to return top position.", 1, indexed.search( one ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#MyStack(boolean, int)}
+	 * to keep the index unchanged when a full, indexed stack rejects a push.
+	 */
+	@Test
+	public void testSearchContains_IndexedFixedCapacity()
+	{
+		MyStack<Integer> both = new MyStack<Integer>( true, 2 );
+		both.push( one );
+		both.push( two );
+		assertTrue( "Failed to report full.", both.stackOverflow() );
+		try
+		{
+			both.push( three );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertFalse( "Failed to leave rejected item out of index.", both.contains( three ) );
+		assertEquals( "Failed to return bottom position.", 2, both.search( one ) );
+		both.pop();
+		both.push( one );
+		assertEquals( "Failed to return nearest position.", 1, both.search( one ) );
+	}
+
+	/**
+	 * Test of random pushes and pops on an indexed stack, checking
+	 * {@link implementations.MyStack#search(Object)} and
+	 * {@link implementations.MyStack#contains(Object)} against a plain stack.
+	 */
+	@Test
+	public void testSearchContains_IndexedMatchesPlain()
+	{
+		MyStack<Integer> indexed = new MyStack<Integer>( true );
+		Random random = new Random( 304 );
+		for( int step = 0; step < 5000; step++ )
+		{
+			if( random.nextInt( 3 ) < 2 || stack.isEmpty() )
+			{
+				Integer value = random.nextInt( 20 );
+				stack.push( value );
+				indexed.push( value );
+			}
+			else
+			{
+				assertEquals( "Failed to pop same item.", stack.pop(), indexed.pop() );
+			}
+			Integer probe = random.nextInt( 22 );
+			assertEquals( "Failed to return same position.", stack.search( probe ), indexed.search( probe ) );
+			assertEquals( "Failed to return same result.", stack.contains( probe ), indexed.contains( probe ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#iterator()}
+	 * to throw ConcurrentModificationException once the stack is structurally
+	 * modified by a push.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		stack.push( one );
+		stack.push( two );
+		Iterator<Integer> it = stack.iterator();
+		assertNotNull( "Failed to return first item.", it.next() );
+		stack.push( three );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
 }
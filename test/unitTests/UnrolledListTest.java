@@ -0,0 +1,333 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the unrolled linked list implementation of the ListADT. The node
+ * chain is read through reflection to check how elements are spread across
+ * nodes as they split and merge.
+ */
+
+public class UnrolledListTest
+{
+	// Attributes
+	private static final int NODE_CAPACITY = 4;
+	private MyUnrolledList<Integer> myList;
+
+	/**
+	 * Initializes a MyUnrolledList with four elements per node before each test,
+	 * so that small lists already span several nodes.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyUnrolledList<Integer>( NODE_CAPACITY );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#MyUnrolledList(int)}
+	 * to reject a node capacity below two.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MyUnrolledList<Integer>( 1 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(Object)}
+	 * to fill the tail node before starting a new one.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testAdd_FillsTailNode() throws Exception
+	{
+		for( int i = 0; i < 9; i++ )
+		{
+			myList.add( i );
+		}
+		assertArrayEquals( "Failed to fill nodes in order.", new int[] { 4, 4, 1 }, nodeCounts() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(int, Object)}
+	 * to split a full node in half and insert into the lower half when the
+	 * position falls there.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testAddIndex_SplitsFullNode_Lower() throws Exception
+	{
+		for( int i = 0; i < NODE_CAPACITY; i++ )
+		{
+			myList.add( i );
+		}
+		assertArrayEquals( "Failed to fill one node.", new int[] { 4 }, nodeCounts() );
+
+		myList.add( 1, 5 );
+
+		assertArrayEquals( "Failed to split full node.", new int[] { 3, 2 }, nodeCounts() );
+		assertArrayEquals( "Failed to insert in order.", new Object[] { 0, 5, 1, 2, 3 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(int, Object)}
+	 * to split a full node in half and insert into the new upper node when the
+	 * position falls past the midpoint.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testAddIndex_SplitsFullNode_Upper() throws Exception
+	{
+		for( int i = 0; i < NODE_CAPACITY; i++ )
+		{
+			myList.add( i );
+		}
+
+		myList.add( 3, 25 );
+
+		assertArrayEquals( "Failed to split full node.", new int[] { 2, 3 }, nodeCounts() );
+		assertArrayEquals( "Failed to insert in order.", new Object[] { 0, 1, 2, 25, 3 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(int, Object)}
+	 * to insert into a node with room without splitting it.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testAddIndex_NoSplitWithRoom() throws Exception
+	{
+		for( int i = 0; i < 6; i++ )
+		{
+			myList.add( i );
+		}
+		assertArrayEquals( "Failed to fill nodes in order.", new int[] { 4, 2 }, nodeCounts() );
+
+		myList.add( 5, 45 );
+
+		assertArrayEquals( "Failed to insert without splitting.", new int[] { 4, 3 }, nodeCounts() );
+		assertArrayEquals( "Failed to insert in order.", new Object[] { 0, 1, 2, 3, 4, 45, 5 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#remove(int)}
+	 * to merge a node that drops below half capacity with its successor when
+	 * both fit in one node.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRemoveInt_MergesUnderfullNode() throws Exception
+	{
+		for( int i = 0; i < NODE_CAPACITY; i++ )
+		{
+			myList.add( i );
+		}
+		myList.add( 2, 15 );
+		assertArrayEquals( "Failed to split full node.", new int[] { 3, 2 }, nodeCounts() );
+
+		myList.remove( 0 );
+		assertArrayEquals( "Failed to keep half-full node.", new int[] { 2, 2 }, nodeCounts() );
+
+		myList.remove( 0 );
+		assertArrayEquals( "Failed to merge underfull node.", new int[] { 3 }, nodeCounts() );
+		assertArrayEquals( "Failed to keep order after merge.", new Object[] { 15, 2, 3 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#remove(int)}
+	 * to leave an underfull node alone when its successor does not fit into it.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRemoveInt_NoMergeWhenSuccessorTooFull() throws Exception
+	{
+		for( int i = 0; i < 8; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 3; i++ )
+		{
+			myList.remove( 0 );
+		}
+
+		assertArrayEquals( "Failed to keep nodes apart.", new int[] { 1, 4 }, nodeCounts() );
+		assertArrayEquals( "Failed to keep order.", new Object[] { 3, 4, 5, 6, 7 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#remove(Object)}
+	 * to unlink a node once its last element is removed.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRemoveE_UnlinksEmptyNode() throws Exception
+	{
+		for( int i = 0; i < 8; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 3; i++ )
+		{
+			myList.remove( 0 );
+		}
+
+		assertEquals( "Failed to remove element.", Integer.valueOf( 3 ), myList.remove( Integer.valueOf( 3 ) ) );
+
+		assertArrayEquals( "Failed to unlink empty node.", new int[] { 4 }, nodeCounts() );
+		assertArrayEquals( "Failed to keep order.", new Object[] { 4, 5, 6, 7 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#clear()}
+	 * to drop every node.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testClear_DropsNodes() throws Exception
+	{
+		for( int i = 0; i < 9; i++ )
+		{
+			myList.add( i );
+		}
+		myList.clear();
+
+		assertArrayEquals( "Failed to drop nodes.", new int[0], nodeCounts() );
+		myList.add( 1 );
+		assertArrayEquals( "Failed to start a new node.", new int[] { 1 }, nodeCounts() );
+	}
+
+	/**
+	 * Test of random positional adds and removes against java.util.ArrayList,
+	 * checking after every step that the node chain is consistent: links agree
+	 * in both directions, no node is empty or over capacity, slots past each
+	 * node's count are cleared and the counts add up to the size.
+	 * @throws java.lang.Exception
+	 */
+	@Test
+	public void testRandomOperations_KeepNodesConsistent() throws Exception
+	{
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		Random random = new Random( 304 );
+		for( int step = 0; step < 5000; step++ )
+		{
+			if( random.nextInt( 10 ) < 6 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				myList.add( index, step );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same element.", expected.remove( index ), myList.remove( index ) );
+			}
+			nodeCounts();
+		}
+		assertArrayEquals( "Failed to keep same elements.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#iterator()}
+	 * to throw ConcurrentModificationException once an insert splits the node
+	 * the iterator is reading.
+	 */
+	@Test
+	public void testIterator_ConcurrentModificationException()
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+		Iterator<Integer> it = myList.iterator();
+		assertNotNull( "Failed to return first item.", it.next() );
+		myList.add( 0, 9 );
+		try
+		{
+			it.next();
+			fail( "Failed to throw ConcurrentModificationException." );
+		}
+		catch( ConcurrentModificationException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Walks the node chain of myList and returns the element count of each
+	 * node in order, asserting along the way that the chain is consistent.
+	 */
+	private int[] nodeCounts() throws Exception
+	{
+		ArrayList<Integer> counts = new ArrayList<Integer>();
+		Object previous = null;
+		Object node = field( myList, "head" );
+		int total = 0;
+		while( node != null )
+		{
+			Object[] items = (Object[]) field( node, "items" );
+			int count = (Integer) field( node, "count" );
+			assertSame( "Failed to link node back to its predecessor.", previous, field( node, "prev" ) );
+			assertTrue( "Failed to keep node count within capacity.", count >= 1 && count <= NODE_CAPACITY );
+			for( int i = 0; i < items.length; i++ )
+			{
+				assertEquals( "Failed to keep only counted slots filled.", i < count, items[i] != null );
+			}
+			counts.add( count );
+			total += count;
+			previous = node;
+			node = field( node, "next" );
+		}
+		assertSame( "Failed to keep tail at last node.", previous, field( myList, "tail" ) );
+		assertEquals( "Failed to match node counts with size.", myList.size(), total );
+
+		int[] result = new int[counts.size()];
+		for( int i = 0; i < result.length; i++ )
+		{
+			result[i] = counts.get( i );
+		}
+		return result;
+	}
+
+	/**
+	 * Reads a private field of an implementation object.
+	 */
+	private static Object field( Object target, String name ) throws Exception
+	{
+		Field f = target.getClass().getDeclaredField( name );
+		f.setAccessible( true );
+		return f.get( target );
+	}
+}
@@ -0,0 +1,243 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import parser.ParseError;
+import parser.ParseResult;
+import parser.XMLParser;
+
+/**
+ * Class Description:
+ * Test for the streaming tag-balance validator in the parser package.
+ */
+
+public class XMLParserTest
+{
+	// Attributes
+	private XMLParser parser;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Initializes an XMLParser with a tiny buffer before each test, so that
+	 * markup straddles buffer boundaries.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		parser = new XMLParser( 3 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		parser = null;
+	}
+
+	private ParseResult parse( String xml ) throws IOException
+	{
+		return parser.parse( new StringReader( xml ), "test" );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#XMLParser(int)}
+	 * to reject a buffer size below one.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new XMLParser( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parse(java.nio.file.Path)}
+	 * to accept the well-formed sample.
+	 * @throws IOException
+	 */
+	@Test
+	public void testParsePath_WellFormedSample() throws IOException
+	{
+		ParseResult result = new XMLParser().parse( Paths.get( "res", "sample1.xml" ) );
+
+		assertTrue( "Failed to accept well-formed document.", result.isWellFormed() );
+		assertEquals( "Failed to report file size.", 1238, result.getBytes() );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parse(java.nio.file.Path)}
+	 * to report the errors in the malformed sample.
+	 * @throws IOException
+	 */
+	@Test
+	public void testParsePath_MalformedSample() throws IOException
+	{
+		ParseResult result = new XMLParser().parse( Paths.get( "res", "sample2.xml" ) );
+
+		assertFalse( "Failed to reject malformed document.", result.isWellFormed() );
+		assertEquals( "Failed to report correct error count.", 6, result.getErrors().size() );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parse(java.io.Reader, String)}
+	 * to skip declarations, comments, CDATA, self-closing tags and quoted '>'.
+	 * @throws IOException
+	 */
+	@Test
+	public void testParseReader_SkipsNonElementMarkup() throws IOException
+	{
+		String xml = "<?xml version=\"1.0\"?>\n<!DOCTYPE a [<!ELEMENT a ANY>]>\n"
+				+ "<a x=\"1>2\" y='</b>'><!-- <c> --><![CDATA[<d>]]><e/><f ></f ></a>\n";
+		ParseResult result = parse( xml );
+
+		assertTrue( "Failed to accept well-formed document: " + result, result.isWellFormed() );
+		assertEquals( "Failed to count characters.", xml.length(), result.getBytes() );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parse(java.io.Reader, String)}
+	 * to report tags skipped over by an end tag that matches deeper in the stack.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseReader_UnclosedInnerTag() throws Exception
+	{
+		ParseResult result = parse( "<a>\n<b>\n<c>\n</a>" );
+
+		assertEquals( "Failed to report correct error count.", 2, result.getErrors().size() );
+		ParseError first = result.getErrors().dequeue();
+		assertEquals( "Failed to report errors top-down.", 4, first.getLine() );
+		assertTrue( "Failed to name the unclosed tag.", first.getMessage().startsWith( "<c> opened on line 3" ) );
+		assertTrue( "Failed to name the unclosed tag.", result.getErrors().dequeue().getMessage().startsWith( "<b>" ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parse(java.io.Reader, String)}
+	 * to report an end tag with no start tag and compare names case-sensitively.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseReader_UnmatchedEndTag() throws Exception
+	{
+		ParseResult result = parse( "<a><b></B></b></a>" );
+
+		assertEquals( "Failed to report correct error count.", 1, result.getErrors().size() );
+		assertTrue( "Failed to name the end tag.", result.getErrors().peek().getMessage().startsWith( "</B>" ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parse(java.io.Reader, String)}
+	 * to report tags left open and markup cut off at the end of the document.
+	 * @throws IOException
+	 */
+	@Test
+	public void testParseReader_TruncatedDocument() throws IOException
+	{
+		ParseResult result = parse( "<a><b x=\"" );
+
+		assertEquals( "Failed to report correct error count.", 2, result.getErrors().size() );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parse(java.io.Reader, String)}
+	 * to report a second root element and an empty document.
+	 * @throws IOException
+	 */
+	@Test
+	public void testParseReader_RootElement() throws IOException
+	{
+		assertEquals( "Failed to report second root.", 1, parse( "<a/><b></b>" ).getErrors().size() );
+		assertEquals( "Failed to report missing root.", 1, parse( "<?xml?>" ).getErrors().size() );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseMapped(java.nio.file.Path)}
+	 * to accept the well-formed sample.
+	 * @throws IOException
+	 */
+	@Test
+	public void testParseMapped_WellFormedSample() throws IOException
+	{
+		ParseResult result = parser.parseMapped( Paths.get( "res", "sample1.xml" ) );
+
+		assertTrue( "Failed to accept well-formed document.", result.isWellFormed() );
+		assertEquals( "Failed to report file size.", 1238, result.getBytes() );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseMapped(java.nio.file.Path)}
+	 * to report the same errors as the buffered mode on the malformed sample.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseMapped_MalformedSample() throws Exception
+	{
+		Path sample = Paths.get( "res", "sample2.xml" );
+		ParseResult expected = parser.parse( sample );
+		ParseResult actual = parser.parseMapped( sample );
+
+		assertEquals( "Failed to report correct error count.", expected.getErrors().size(), actual.getErrors().size() );
+		while( !expected.getErrors().isEmpty() )
+		{
+			assertEquals( "Failed to report the same error.", expected.getErrors().dequeue().toString(),
+					actual.getErrors().dequeue().toString() );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseMapped(java.nio.file.Path)}
+	 * to compare multi-byte UTF-8 tag names and skip non-element markup.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseMapped_ByteRanges() throws Exception
+	{
+		Path file = folder.newFile( "names.xml" ).toPath();
+		Files.write( file, ( "<?xml version=\"1.0\"?><r><caf\u00e9 a='>'><caf\u00e9/><!-- </r> -->"
+				+ "<![CDATA[</x>]]></caf\u00e9><ab></abc></ab></r>" ).getBytes( StandardCharsets.UTF_8 ) );
+		ParseResult result = parser.parseMapped( file );
+
+		assertEquals( "Failed to report correct error count.", 1, result.getErrors().size() );
+		assertTrue( "Failed to name the end tag.", result.getErrors().peek().getMessage().startsWith( "</abc>" ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseMapped(java.nio.file.Path)}
+	 * to report a document cut off inside a tag name.
+	 * @throws IOException
+	 */
+	@Test
+	public void testParseMapped_TruncatedDocument() throws IOException
+	{
+		Path file = folder.newFile( "truncated.xml" ).toPath();
+		Files.write( file, "<a><bc".getBytes( StandardCharsets.UTF_8 ) );
+
+		assertEquals( "Failed to report correct error count.", 2, parser.parseMapped( file ).getErrors().size() );
+	}
+}